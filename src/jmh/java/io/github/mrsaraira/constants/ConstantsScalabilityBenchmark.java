@@ -0,0 +1,97 @@
+package io.github.mrsaraira.constants;
+
+import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link Constants} cached lookups from 1 to all the available cores, to catch contention in the
+ * {@link Constants.Inner} caches. The benchmarks are declared once and run by the nested classes with different thread counts,
+ * the throughput should grow with the threads up to the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class ConstantsScalabilityBenchmark {
+
+    public enum Status implements EnumConstantContainer<String, Status> {
+        ACTIVE(Constants.of("ACTIVE")),
+        BLOCKED(Constants.of("BLOCKED")),
+        DELETED(Constants.of("DELETED"));
+
+        private final Constant<String> constant;
+
+        Status(Constant<String> constant) {
+            this.constant = constant;
+        }
+
+        @Override
+        public Constant<String> getConstant() {
+            return constant;
+        }
+    }
+
+    public static class Container extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            var constants = new ArrayList<Constant<String>>();
+            for (int i = 0; i < 32; i++) {
+                constants.add(Constants.of("KEY_" + i));
+            }
+            return constants;
+        }
+
+    }
+
+    private final String key = "KEY_31";
+    private final String status = "DELETED";
+
+    @Setup
+    public void setup() {
+        Constants.getInstance(Container.class);
+    }
+
+    @Benchmark
+    public Container getInstance() {
+        return Constants.getInstance(Container.class);
+    }
+
+    @Benchmark
+    public Status getEnumByValue() {
+        return Constants.getEnumByValueOrNull(status, Status.class);
+    }
+
+    @Benchmark
+    public boolean anyValue() {
+        return Constants.anyValue(key, Constants.getInstance(Container.class));
+    }
+
+    @Benchmark
+    public Constant<String> stringKeyIndex() {
+        return Constants.getStringKeyIndex(Container.class).get(key);
+    }
+
+    @Threads(1)
+    public static class OneThread extends ConstantsScalabilityBenchmark {
+    }
+
+    @Threads(2)
+    public static class TwoThreads extends ConstantsScalabilityBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends ConstantsScalabilityBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllCores extends ConstantsScalabilityBenchmark {
+    }
+
+}
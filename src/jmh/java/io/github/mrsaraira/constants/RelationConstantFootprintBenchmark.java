@@ -0,0 +1,56 @@
+package io.github.mrsaraira.constants;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the footprint of a relation constant storing its relation values inline with the former layout of a key constant
+ * and a list of relation constants. Both benchmarks allocate only the objects the relation constant retains, so run with
+ * {@code -prof gc}, the {@code gc.alloc.rate.norm} of a benchmark is the number of bytes a relation constant with three
+ * relation values takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelationConstantFootprintBenchmark {
+
+    private static final String[] RELATION_VALUES = {"CREATE", "READ", "UPDATE"};
+
+    private final String key = "ADMIN";
+    private final String create = RELATION_VALUES[0];
+    private final String read = RELATION_VALUES[1];
+    private final String update = RELATION_VALUES[2];
+
+    @Benchmark
+    public Object listLayout() {
+        return new ListRelationConstant(new ConstantImpl<>(key),
+                List.of(new ConstantImpl<>(create), new ConstantImpl<>(read), new ConstantImpl<>(update)));
+    }
+
+    @Benchmark
+    public Object inlineLayout() {
+        return Constants.of(key, RELATION_VALUES);
+    }
+
+    /**
+     * The relation constant layout before storing the relation values inline.
+     */
+    private static final class ListRelationConstant {
+
+        private final Constant<String> key;
+        private final Collection<Constant<String>> relations;
+
+        private ListRelationConstant(Constant<String> key, Collection<Constant<String>> relations) {
+            this.key = key;
+            this.relations = relations;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.Constants;
+import io.github.mrsaraira.constants.RelationConstant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Construction time of large relation containers from a list and from {@link RelationConstantsBuilder}, compared with
+ * collecting the relations to a {@link LinkedHashMap} as the containers did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RelationContainerBuildBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private List<RelationConstant<String, Integer>> relations;
+
+    @Setup
+    public void setup() {
+        relations = generate(size).toList();
+    }
+
+    @Benchmark
+    public Map<Constant<String>, RelationConstant<String, Integer>> linkedHashMap() {
+        return Collections.unmodifiableMap(relations.stream()
+                .collect(Collectors.toMap(RelationConstant::getKey, Function.identity(),
+                        (relation, relation2) -> {
+                            throw new IllegalArgumentException("Duplicated keys were found");
+                        },
+                        LinkedHashMap::new)));
+    }
+
+    @Benchmark
+    public Container fromList() {
+        return new Container(relations);
+    }
+
+    @Benchmark
+    public Container fromBuilder() {
+        return new Container(RelationConstantsBuilder.<String, Integer>withExpectedSize(size)
+                .addAll(generate(size))
+                .build());
+    }
+
+    private static java.util.stream.Stream<RelationConstant<String, Integer>> generate(int size) {
+        return IntStream.range(0, size).mapToObj(i -> Constants.of("TARIFF-" + i, i % 97, i % 89));
+    }
+
+    public static class Container extends AbstractRelationConstantContainer<String, Integer> {
+
+        private static List<RelationConstant<String, Integer>> source;
+
+        Container(List<RelationConstant<String, Integer>> relations) {
+            super(init(relations));
+        }
+
+        private static ContainerOption[] init(List<RelationConstant<String, Integer>> relations) {
+            source = relations;
+            return new ContainerOption[]{ContainerOption.BLOOM_FILTER};
+        }
+
+        @Override
+        protected List<RelationConstant<String, Integer>> initialConstants() {
+            return source;
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.mrsaraira.constants.internal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares contains lookups of the {@link CompactCollections} sets with the {@link LinkedHashSet} and {@link Set#copyOf} sets,
+ * for the small sizes of most containers. Run with {@code -prof gc}, the {@code gc.alloc.rate.norm} of the copy benchmarks
+ * is the number of bytes a set takes, without the shared elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactCollectionsBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int size;
+
+    private List<String> elements;
+    private Set<String> linkedHashSet;
+    private Set<String> immutableSet;
+    private Set<String> compactSet;
+    private String hit;
+    private String miss;
+
+    @Setup
+    public void setup() {
+        elements = IntStream.range(0, size).mapToObj(i -> "KEY_" + i).toList();
+        linkedHashSet = new LinkedHashSet<>(elements);
+        immutableSet = Set.copyOf(elements);
+        compactSet = CompactCollections.copyOfSet(elements);
+        hit = new String("KEY_" + (size - 1));
+        miss = "MISSING";
+    }
+
+    @Benchmark
+    public boolean linkedHashSetHit() {
+        return linkedHashSet.contains(hit);
+    }
+
+    @Benchmark
+    public boolean linkedHashSetMiss() {
+        return linkedHashSet.contains(miss);
+    }
+
+    @Benchmark
+    public boolean immutableSetHit() {
+        return immutableSet.contains(hit);
+    }
+
+    @Benchmark
+    public boolean immutableSetMiss() {
+        return immutableSet.contains(miss);
+    }
+
+    @Benchmark
+    public boolean compactSetHit() {
+        return compactSet.contains(hit);
+    }
+
+    @Benchmark
+    public boolean compactSetMiss() {
+        return compactSet.contains(miss);
+    }
+
+    @Benchmark
+    public Set<String> linkedHashSetCopy() {
+        return new LinkedHashSet<>(elements);
+    }
+
+    @Benchmark
+    public Set<String> immutableSetCopy() {
+        return Set.copyOf(elements);
+    }
+
+    @Benchmark
+    public Set<String> compactSetCopy() {
+        return CompactCollections.copyOfSet(elements);
+    }
+
+}
@@ -0,0 +1,118 @@
+package io.github.mrsaraira.constants.vector;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.Constants;
+import io.github.mrsaraira.constants.RelationConstant;
+import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractRelationConstantContainer;
+import io.github.mrsaraira.constants.containers.ContainerOption;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Constants} lookups on int-keyed containers with the primitive {@link IntKeys} and {@link IntRelations} scans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntKeysBenchmark {
+
+    @Param({"8", "64", "512"})
+    private int size;
+
+    private Container container;
+    private RelationContainer relationContainer;
+    private IntKeys intKeys;
+    private IntRelations<Integer> intRelations;
+    private int hit;
+    private int miss;
+
+    @Setup
+    public void setup() {
+        container = new Container(size);
+        relationContainer = new RelationContainer(size);
+        intKeys = IntKeys.of(container);
+        intRelations = IntRelations.of(relationContainer);
+        hit = (size - 1) * 10;
+        miss = -1;
+    }
+
+    @Benchmark
+    public boolean constantsAnyValueHit() {
+        return Constants.anyValue(hit, container);
+    }
+
+    @Benchmark
+    public boolean constantsAnyValueMiss() {
+        return Constants.anyValue(miss, container);
+    }
+
+    @Benchmark
+    public boolean intKeysAnyValueHit() {
+        return intKeys.anyValue(hit);
+    }
+
+    @Benchmark
+    public boolean intKeysAnyValueMiss() {
+        return intKeys.anyValue(miss);
+    }
+
+    @Benchmark
+    public boolean constantsAnyRelationValueMiss() {
+        return Constants.anyRelationValue(miss, relationContainer);
+    }
+
+    @Benchmark
+    public boolean intRelationsAnyRelationValueMiss() {
+        return intRelations.anyRelationValue(miss);
+    }
+
+    private static final class Container extends AbstractConstantContainer<Integer> {
+
+        private final int size;
+
+        // lazy, so the size field is initialized before initialConstants() call
+        private Container(int size) {
+            super(ContainerOption.LAZY);
+            this.size = size;
+        }
+
+        @Override
+        protected List<Constant<Integer>> initialConstants() {
+            var constants = new ArrayList<Constant<Integer>>(size);
+            for (int i = 0; i < size; i++) {
+                constants.add(Constants.of(i * 10));
+            }
+            return constants;
+        }
+
+    }
+
+    private static final class RelationContainer extends AbstractRelationConstantContainer<Integer, Integer> {
+
+        private final int size;
+
+        // lazy, so the size field is initialized before initialConstants() call
+        private RelationContainer(int size) {
+            super(ContainerOption.LAZY);
+            this.size = size;
+        }
+
+        @Override
+        protected List<RelationConstant<Integer, Integer>> initialConstants() {
+            var constants = new ArrayList<RelationConstant<Integer, Integer>>(size);
+            for (int i = 0; i < size; i++) {
+                constants.add(Constants.of(i, i * 10, i * 10 + 1));
+            }
+            return constants;
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Hit counts of a container constants, recorded by the {@link Constants} lookups of the container,
+ * and the order the predicate lookups scan the constants in. The lookups by value use the container key lookup instead of a scan.
+ * <p>
+ * The counters are striped ({@link LongAdder}), so the lookups from many threads do not contend on recording hits.
+ * The scan order is the declared order of the constants until {@link #freezeHotFirst()} re-orders it by the hits
+ * recorded so far. The scan order affects only the lookups cost, the container keys, streams and ordinals keep the declared order.
+ *
+ * @param <T> constant values type
+ * @author Takhsin Saraira
+ * @see ConstantContainer#getAccessProfile()
+ * @see io.github.mrsaraira.constants.containers.ContainerOption#PROFILE
+ */
+public final class AccessProfile<T> {
+
+    private final ConstantOrdinals<T> ordinals;
+    private final LongAdder[] hits;
+    private volatile int[] scanOrder;
+
+    private AccessProfile(ConstantOrdinals<T> ordinals) {
+        this.ordinals = ordinals;
+        this.hits = new LongAdder[ordinals.size()];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new LongAdder();
+        }
+        this.scanOrder = declaredOrder();
+    }
+
+    /**
+     * Create an empty profile of the container constants, scanned in the declared order.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @return profile of the container
+     */
+    public static <T> AccessProfile<T> of(@NonNull ConstantContainer<T> container) {
+        return new AccessProfile<>(container.getOrdinals());
+    }
+
+    /**
+     * Record a hit of the constant having the ordinal.
+     *
+     * @param ordinal ordinal of the constant
+     * @throws IndexOutOfBoundsException if the ordinal is out of the ordinals range
+     */
+    public void recordHit(int ordinal) {
+        hits[ordinal].increment();
+    }
+
+    /**
+     * Get number of the hits of the constant.
+     *
+     * @param constant constant of the container
+     * @return number of the hits, or 0 if the container has no such constant
+     */
+    public long getHits(Constant<T> constant) {
+        var ordinal = ordinals.ordinalOf(constant);
+        return ordinal < 0 ? 0 : hits[ordinal].sum();
+    }
+
+    /**
+     * Get number of the hits of all the constants.
+     *
+     * @return total number of the hits
+     */
+    public long getTotalHits() {
+        var total = 0L;
+        for (var counter : hits) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Get the hottest constants, which were hit at least once, ordered by their hits from the hottest.
+     * The constants having equal hits are ordered as declared.
+     *
+     * @param limit maximum number of the constants to report
+     * @return unmodifiable list of the hot keys
+     */
+    public List<HotKey<T>> getHotKeys(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        var counts = counts();
+        var total = Arrays.stream(counts).sum();
+        var hotKeys = new ArrayList<HotKey<T>>();
+        for (var ordinal : hotFirst(counts)) {
+            if (hotKeys.size() == limit || counts[ordinal] == 0) {
+                break;
+            }
+            hotKeys.add(new HotKey<>(ordinals.get(ordinal), counts[ordinal], (double) counts[ordinal] / total));
+        }
+        return Collections.unmodifiableList(hotKeys);
+    }
+
+    /**
+     * Re-order the scan order by the hits recorded so far, from the hottest constant. The constants having equal hits
+     * keep the declared order. The counters are not reset, so the order can be re-frozen later as the traffic changes.
+     */
+    public void freezeHotFirst() {
+        scanOrder = hotFirst(counts());
+    }
+
+    /**
+     * Reset the counters and restore the declared scan order.
+     */
+    public void reset() {
+        for (var counter : hits) {
+            counter.reset();
+        }
+        scanOrder = declaredOrder();
+    }
+
+    /**
+     * Get the constants in the order the lookups scan them.
+     *
+     * @return unmodifiable list of the constants in the scan order
+     */
+    public List<Constant<T>> getScanOrder() {
+        var order = scanOrder;
+        var constants = new ArrayList<Constant<T>>(order.length);
+        for (var ordinal : order) {
+            constants.add(ordinals.get(ordinal));
+        }
+        return Collections.unmodifiableList(constants);
+    }
+
+    int[] scanOrdinals() {
+        return scanOrder;
+    }
+
+    private long[] counts() {
+        var counts = new long[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            counts[i] = hits[i].sum();
+        }
+        return counts;
+    }
+
+    private int[] hotFirst(long[] counts) {
+        return IntStream.range(0, counts.length)
+                .boxed()
+                .sorted(Comparator.comparingLong((Integer ordinal) -> counts[ordinal]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int[] declaredOrder() {
+        return IntStream.range(0, hits.length).toArray();
+    }
+
+    /**
+     * Hit count of a constant.
+     *
+     * @param <T> constant values type
+     */
+    @Value
+    public static class HotKey<T> {
+
+        /**
+         * The hit constant.
+         */
+        Constant<T> constant;
+
+        /**
+         * Number of the constant hits.
+         */
+        long hits;
+
+        /**
+         * Share of the constant hits in the hits of all the constants, from 0 to 1.
+         */
+        double share;
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Immutable multi-field constant key, such as (country, currency, channel), which keeps each component separately
+ * instead of packing them in a single String. Two keys are equal if their components are equal.
+ *
+ * @author Takhsin Saraira
+ * @see CompositeKeyIndex
+ */
+public final class CompositeKey {
+
+    private final Object[] components;
+
+    private CompositeKey(Object[] components) {
+        this.components = components;
+    }
+
+    /**
+     * Create a key of the components.
+     *
+     * @param components key components, null components are permitted
+     * @return composite key
+     */
+    public static CompositeKey of(@NonNull Object... components) {
+        if (components.length == 0) {
+            throw new IllegalArgumentException("Composite key must have at least one component");
+        }
+        return new CompositeKey(components.clone());
+    }
+
+    /**
+     * Get the key component.
+     *
+     * @param index component index
+     * @param <T>   component type
+     * @return key component
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        Objects.checkIndex(index, components.length);
+        return (T) components[index];
+    }
+
+    /**
+     * Get number of the key components.
+     *
+     * @return number of the components
+     */
+    public int size() {
+        return components.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof CompositeKey key && Arrays.equals(components, key.components);
+    }
+
+    /**
+     * Same as {@link Arrays#hashCode(Object[])} of the components.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(components);
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "(", ")");
+        for (var component : components) {
+            joiner.add(String.valueOf(component));
+        }
+        return joiner.toString();
+    }
+
+}
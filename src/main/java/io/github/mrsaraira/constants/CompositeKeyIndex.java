@@ -0,0 +1,295 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Immutable multi-column index of a container with {@link CompositeKey} keys.
+ * The key components are stored by columns, and the index has a primary table on the full keys and secondary tables
+ * on the requested numbers of the leading components (the prefixes), for example on (country) and (country, currency)
+ * of (country, currency, channel) keys.
+ * <p>
+ * The lookups hash and compare the passed components against the columns and never create lookup keys.
+ * The fixed-arity lookups do not allocate, the prefix lookups return lists created with the index.
+ *
+ * @author Takhsin Saraira
+ * @see CompositeKey
+ */
+public final class CompositeKeyIndex {
+
+    private final int arity;
+    private final Object[][] columns;
+    private final Table primary;
+    private final Table[] secondary;
+
+    private CompositeKeyIndex(List<Constant<CompositeKey>> constants, int[] prefixLengths) {
+        this.arity = constants.isEmpty() ? 0 : constants.get(0).getValue().size();
+        this.columns = new Object[arity][constants.size()];
+        for (int ordinal = 0; ordinal < constants.size(); ordinal++) {
+            var key = constants.get(ordinal).getValue();
+            if (key.size() != arity) {
+                throw new IllegalArgumentException("Composite keys must have the same number of components");
+            }
+            for (int column = 0; column < arity; column++) {
+                columns[column][ordinal] = key.get(column);
+            }
+        }
+
+        this.primary = new Table(arity, constants, false);
+        this.secondary = new Table[arity + 1];
+        for (var prefixLength : prefixLengths) {
+            if (prefixLength < 1 || prefixLength >= arity) {
+                throw new IllegalArgumentException("Secondary index prefix length must be between 1 and " + (arity - 1));
+            }
+            secondary[prefixLength] = new Table(prefixLength, constants, true);
+        }
+    }
+
+    /**
+     * Create an index of the container composite keys.
+     *
+     * @param container      container with composite keys of the same number of components
+     * @param prefixLengths numbers of the leading components to create secondary indexes on
+     * @return index of the container keys
+     * @throws IllegalArgumentException if the keys have different number of components or a prefix length is out of the keys components
+     */
+    public static CompositeKeyIndex of(@NonNull ConstantContainer<CompositeKey> container, @NonNull int... prefixLengths) {
+        return new CompositeKeyIndex(container.getOrdinals().asList(), prefixLengths);
+    }
+
+    /**
+     * Get the key with the components.
+     *
+     * @param component first component
+     * @return key constant, or null if not found
+     */
+    public Constant<CompositeKey> byFull(Object component) {
+        return primary.constant(primary.find(1, component, null, null, null, null));
+    }
+
+    /**
+     * Get the key with the components.
+     *
+     * @param component  first component
+     * @param component2 second component
+     * @return key constant, or null if not found
+     */
+    public Constant<CompositeKey> byFull(Object component, Object component2) {
+        return primary.constant(primary.find(2, component, component2, null, null, null));
+    }
+
+    /**
+     * Get the key with the components.
+     *
+     * @param component  first component
+     * @param component2 second component
+     * @param component3 third component
+     * @return key constant, or null if not found
+     */
+    public Constant<CompositeKey> byFull(Object component, Object component2, Object component3) {
+        return primary.constant(primary.find(3, component, component2, component3, null, null));
+    }
+
+    /**
+     * Get the key with the components.
+     *
+     * @param component  first component
+     * @param component2 second component
+     * @param component3 third component
+     * @param component4 fourth component
+     * @return key constant, or null if not found
+     */
+    public Constant<CompositeKey> byFull(Object component, Object component2, Object component3, Object component4) {
+        return primary.constant(primary.find(4, component, component2, component3, component4, null));
+    }
+
+    /**
+     * Get the key with the components.
+     *
+     * @param components all the key components
+     * @return key constant, or null if not found
+     */
+    public Constant<CompositeKey> byFull(@NonNull Object... components) {
+        return primary.constant(primary.find(components.length, null, null, null, null, components));
+    }
+
+    /**
+     * Get the keys with the leading component.
+     *
+     * @param component first component
+     * @return unmodifiable list of the keys ordered as the container keys, empty if not found
+     * @throws IllegalStateException if the index has no secondary index on the first component
+     */
+    public List<Constant<CompositeKey>> byPrefix(Object component) {
+        var table = secondary(1);
+        return table.constants(table.find(1, component, null, null, null, null));
+    }
+
+    /**
+     * Get the keys with the leading components.
+     *
+     * @param component  first component
+     * @param component2 second component
+     * @return unmodifiable list of the keys ordered as the container keys, empty if not found
+     * @throws IllegalStateException if the index has no secondary index on the two leading components
+     */
+    public List<Constant<CompositeKey>> byPrefix(Object component, Object component2) {
+        var table = secondary(2);
+        return table.constants(table.find(2, component, component2, null, null, null));
+    }
+
+    /**
+     * Get the keys with the leading components.
+     *
+     * @param component  first component
+     * @param component2 second component
+     * @param component3 third component
+     * @return unmodifiable list of the keys ordered as the container keys, empty if not found
+     * @throws IllegalStateException if the index has no secondary index on the three leading components
+     */
+    public List<Constant<CompositeKey>> byPrefix(Object component, Object component2, Object component3) {
+        var table = secondary(3);
+        return table.constants(table.find(3, component, component2, component3, null, null));
+    }
+
+    /**
+     * Get the keys with the leading components.
+     *
+     * @param components leading components
+     * @return unmodifiable list of the keys ordered as the container keys, empty if not found
+     * @throws IllegalStateException if the index has no secondary index on the number of the leading components
+     */
+    public List<Constant<CompositeKey>> byPrefix(@NonNull Object... components) {
+        var table = secondary(components.length);
+        return table.constants(table.find(components.length, null, null, null, null, components));
+    }
+
+    /**
+     * Get number of the keys components.
+     *
+     * @return number of the components, 0 if the container is empty
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    private Table secondary(int prefixLength) {
+        var table = prefixLength < secondary.length ? secondary[prefixLength] : null;
+        if (table == null) {
+            throw new IllegalStateException("No secondary index on " + prefixLength + " leading components");
+        }
+        return table;
+    }
+
+    private static Object component(int index, Object component, Object component2, Object component3, Object component4, Object[] components) {
+        if (components != null) {
+            return components[index];
+        }
+        return switch (index) {
+            case 0 -> component;
+            case 1 -> component2;
+            case 2 -> component3;
+            default -> component4;
+        };
+    }
+
+    /**
+     * Open addressing table of the distinct leading components of the keys, each slot keeps ordinal of the first key with the components.
+     */
+    private final class Table {
+
+        private final int length;
+        private final int[] ordinals;
+        private final int[] hashes;
+        private final Object[] values;
+        private final int mask;
+
+        private Table(int length, List<Constant<CompositeKey>> constants, boolean grouped) {
+            this.length = length;
+            var capacity = Integer.highestOneBit(Math.max(2, constants.size() * 2 - 1)) << 1;
+            this.ordinals = new int[capacity];
+            this.hashes = new int[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(ordinals, -1);
+
+            var groups = new HashMap<Integer, List<Constant<CompositeKey>>>();
+            for (int ordinal = 0; ordinal < constants.size(); ordinal++) {
+                var slot = insert(ordinal);
+                if (grouped) {
+                    groups.computeIfAbsent(slot, key -> new ArrayList<>()).add(constants.get(ordinal));
+                } else if (values[slot] == null) {
+                    values[slot] = constants.get(ordinal);
+                }
+            }
+            groups.forEach((slot, group) -> values[slot] = Collections.unmodifiableList(group));
+        }
+
+        private int insert(int ordinal) {
+            var hash = 1;
+            for (int column = 0; column < length; column++) {
+                hash = 31 * hash + Objects.hashCode(columns[column][ordinal]);
+            }
+            var slot = spread(hash) & mask;
+            for (; ordinals[slot] >= 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && sameComponents(ordinals[slot], ordinal)) {
+                    return slot;
+                }
+            }
+            ordinals[slot] = ordinal;
+            hashes[slot] = hash;
+            return slot;
+        }
+
+        private int find(int count, Object component, Object component2, Object component3, Object component4, Object[] components) {
+            if (count != length) {
+                return -1;
+            }
+            var hash = 1;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + Objects.hashCode(component(i, component, component2, component3, component4, components));
+            }
+            for (int slot = spread(hash) & mask; ordinals[slot] >= 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && matches(ordinals[slot], component, component2, component3, component4, components)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private boolean matches(int ordinal, Object component, Object component2, Object component3, Object component4, Object[] components) {
+            for (int column = 0; column < length; column++) {
+                if (!Objects.equals(columns[column][ordinal], component(column, component, component2, component3, component4, components))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean sameComponents(int ordinal, int other) {
+            for (int column = 0; column < length; column++) {
+                if (!Objects.equals(columns[column][ordinal], columns[column][other])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Constant<CompositeKey> constant(int slot) {
+            return slot >= 0 ? (Constant<CompositeKey>) values[slot] : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Constant<CompositeKey>> constants(int slot) {
+            return slot >= 0 ? (List<Constant<CompositeKey>>) values[slot] : List.of();
+        }
+
+        private int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+    }
+
+}
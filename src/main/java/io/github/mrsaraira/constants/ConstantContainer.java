@@ -3,7 +3,9 @@ package io.github.mrsaraira.constants;
 import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * A container that stores constants with the same contained value type (the key value).
@@ -34,4 +36,74 @@ public interface ConstantContainer<T> {
         return Constants.Inner.getAllConstantsValues(this);
     }
 
+    /**
+     * Get sequential stream of the constant keys.
+     * The default implementation streams {@link #getAllKeys()}, the implementations may provide streams that split better.
+     *
+     * @return stream of the constant keys
+     */
+    default Stream<Constant<T>> stream() {
+        return getAllKeys().stream();
+    }
+
+    /**
+     * Get parallel stream of the constant keys.
+     *
+     * @return parallel stream of the constant keys
+     * @see #stream()
+     */
+    default Stream<Constant<T>> parallelStream() {
+        return stream().parallel();
+    }
+
+    /**
+     * Get dense ordinals of the constant keys, assigned in the {@link #stream()} order.
+     * The default implementation creates the ordinals on every call, the implementations should cache them.
+     *
+     * @return ordinals of the constant keys
+     * @see ConstantMap
+     * @see ConstantSet
+     */
+    default ConstantOrdinals<T> getOrdinals() {
+        return ConstantOrdinals.of(this);
+    }
+
+    /**
+     * Get the first constant key, in the {@link #stream()} order, with value equal to value parameter.
+     * The default implementation scans {@link #getAllKeys()}, the implementations may answer by their indexes.
+     *
+     * @param value value to match
+     * @return constant key with the value, or null if not found
+     */
+    default Constant<T> getKeyOrNull(T value) {
+        for (var key : getAllKeys()) {
+            if (Objects.equals(key.getValue(), value)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the container might have a constant with value equal to value parameter, used to reject missing values
+     * without scanning the container. The default implementation cannot reject any value.
+     *
+     * @param value value to check
+     * @return false - if the container has no constant with the value for sure, true - if it might have
+     */
+    default boolean mightContainValue(T value) {
+        return true;
+    }
+
+    /**
+     * Get profile of the constants hits recorded by the lookups scanning the container, such as
+     * {@link Constants#getKeyValue(java.util.function.Predicate, Class) Constants.getKeyValue}.
+     * The default implementation does not profile the lookups.
+     *
+     * @return access profile of the container, or null if the container is not profiled
+     */
+    default AccessProfile<T> getAccessProfile() {
+        return null;
+    }
+
 }
@@ -0,0 +1,81 @@
+package io.github.mrsaraira.constants;
+
+import lombok.Value;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent canonicalization pool of {@link ConstantImpl}, so equal values of the same class share a single constant instance.
+ * Equal values of different classes, such as {@code List.of(1)} and {@code new ArrayList<>(List.of(1))}, have different constants.
+ * The canonical constants are weakly referenced, so the pool entries are dropped once their constants are not used anymore.
+ *
+ * @author Takhsin Saraira
+ * @see Constants#setInterningEnabled(boolean)
+ */
+final class ConstantInterner {
+
+    private final ConcurrentHashMap<Object, ConstantReference> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Constant<?>> queue = new ReferenceQueue<>();
+
+    /**
+     * Get the canonical constant of the value, the constant is created if the pool does not contain it.
+     *
+     * @param value constant value
+     * @param <T>   value type
+     * @return canonical constant of the value
+     */
+    @SuppressWarnings("unchecked")
+    <T> Constant<T> intern(T value) {
+        expungeStaleEntries();
+
+        var key = new Key(value == null ? null : value.getClass(), value);
+        while (true) {
+            var reference = pool.get(key);
+            var constant = reference != null ? reference.get() : null;
+            if (constant != null) {
+                return (Constant<T>) constant;
+            }
+
+            var created = new ConstantImpl<>(value);
+            var createdReference = new ConstantReference(key, created, queue);
+            var stored = reference == null
+                    ? pool.putIfAbsent(key, createdReference) == null
+                    : pool.replace(key, reference, createdReference);
+            if (stored) {
+                return created;
+            }
+        }
+    }
+
+    private void expungeStaleEntries() {
+        ConstantReference reference;
+        while ((reference = (ConstantReference) queue.poll()) != null) {
+            pool.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * Pool key of the value and its class.
+     */
+    @Value
+    private static class Key {
+
+        Class<?> type;
+        Object value;
+
+    }
+
+    private static final class ConstantReference extends WeakReference<Constant<?>> {
+
+        private final Object key;
+
+        ConstantReference(Object key, Constant<?> constant, ReferenceQueue<Constant<?>> queue) {
+            super(constant, queue);
+            this.key = key;
+        }
+
+    }
+
+}
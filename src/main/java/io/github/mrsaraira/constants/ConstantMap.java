@@ -0,0 +1,205 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Map with a container constants keys backed by an array indexed by the constants ordinals, like {@link EnumMap} for enums.
+ * The map iterates the entries in the ordinals order and rejects keys the container does not have.
+ * Null values are permitted. The map is not synchronized.
+ *
+ * @param <K> constant values type
+ * @param <V> mapped values type
+ * @author Takhsin Saraira
+ * @see ConstantOrdinals
+ * @see ConstantSet
+ */
+public class ConstantMap<K, V> extends AbstractMap<Constant<K>, V> {
+
+    private final ConstantOrdinals<K> ordinals;
+    private final Object[] values;
+    private final BitSet present;
+    private Set<Entry<Constant<K>, V>> entrySet;
+
+    /**
+     * Create an empty map with the container constants keys.
+     *
+     * @param container constant container
+     */
+    public ConstantMap(@NonNull ConstantContainer<K> container) {
+        this.ordinals = container.getOrdinals();
+        this.values = new Object[ordinals.size()];
+        this.present = new BitSet(ordinals.size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        var ordinal = ordinals.ordinalOf(key);
+        return ordinal >= 0 ? (V) values[ordinal] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        var ordinal = ordinals.ordinalOf(key);
+        return ordinal >= 0 && present.get(ordinal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the container has no such constant
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(Constant<K> key, V value) {
+        var ordinal = ordinals.ordinalOf(key);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Constant " + key + " is not in the container");
+        }
+        var previous = (V) values[ordinal];
+        values[ordinal] = value;
+        present.set(ordinal);
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        var ordinal = ordinals.ordinalOf(key);
+        if (ordinal < 0) {
+            return null;
+        }
+        var previous = (V) values[ordinal];
+        removeAt(ordinal);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return present.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        present.clear();
+    }
+
+    @Override
+    public Set<Entry<Constant<K>, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void removeAt(int ordinal) {
+        values[ordinal] = null;
+        present.clear(ordinal);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Constant<K>, V>> {
+
+        @Override
+        public Iterator<Entry<Constant<K>, V>> iterator() {
+            return new Iterator<>() {
+
+                private int next = present.nextSetBit(0);
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Entry<Constant<K>, V> next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next = present.nextSetBit(next + 1);
+                    return new OrdinalEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    removeAt(last);
+                    last = -1;
+                }
+
+            };
+        }
+
+        @Override
+        public int size() {
+            return ConstantMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ConstantMap.this.clear();
+        }
+
+    }
+
+    /**
+     * Entry writing through to the map values array.
+     */
+    private final class OrdinalEntry implements Entry<Constant<K>, V> {
+
+        private final int ordinal;
+
+        private OrdinalEntry(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Constant<K> getKey() {
+            return ordinals.get(ordinal);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[ordinal];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            var previous = (V) values[ordinal];
+            values[ordinal] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry<?, ?> entry
+                    && Objects.equals(getKey(), entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+}
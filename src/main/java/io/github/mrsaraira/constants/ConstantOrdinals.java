@@ -0,0 +1,120 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable dense ordinals of a container constants, assigned in the container stream order from zero,
+ * like {@link Enum#ordinal()} of the enum constants. The ordinals let {@link ConstantMap} and {@link ConstantSet}
+ * store the container constants in plain arrays and bit sets.
+ * <p>
+ * If several constants are equal, each of them has an ordinal and the first one is resolved by {@link #ordinalOf(Object)}.
+ *
+ * @param <T> constant values type
+ * @author Takhsin Saraira
+ * @see ConstantContainer#getOrdinals()
+ */
+public final class ConstantOrdinals<T> {
+
+    private final Constant<T>[] constants;
+    private final List<Constant<T>> list;
+    private final Constant<?>[] slots;
+    private final int[] slotsOrdinals;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    private ConstantOrdinals(Object[] constants) {
+        this.constants = (Constant<T>[]) Arrays.copyOf(constants, constants.length, Constant[].class);
+        this.list = Collections.unmodifiableList(Arrays.asList(this.constants));
+
+        var capacity = Integer.highestOneBit(Math.max(2, constants.length * 2 - 1)) << 1;
+        this.slots = new Constant<?>[capacity];
+        this.slotsOrdinals = new int[capacity];
+        this.mask = capacity - 1;
+        for (int ordinal = 0; ordinal < constants.length; ordinal++) {
+            put(this.constants[ordinal], ordinal);
+        }
+    }
+
+    /**
+     * Create ordinals of the container constants in the container stream order.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @return ordinals of the container constants
+     */
+    public static <T> ConstantOrdinals<T> of(@NonNull ConstantContainer<T> container) {
+        return new ConstantOrdinals<>(container.stream().toArray());
+    }
+
+    /**
+     * Get ordinal of the constant.
+     *
+     * @param constant constant of the container
+     * @return ordinal of the constant, or -1 if the container has no such constant
+     */
+    public int ordinalOf(Object constant) {
+        if (!(constant instanceof Constant)) {
+            return -1;
+        }
+        for (int slot = spread(constant.hashCode()) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (slots[slot].equals(constant)) {
+                return slotsOrdinals[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get constant by its ordinal.
+     *
+     * @param ordinal ordinal of the constant
+     * @return constant having the ordinal
+     * @throws IndexOutOfBoundsException if the ordinal is out of the ordinals range
+     */
+    public Constant<T> get(int ordinal) {
+        Objects.checkIndex(ordinal, constants.length);
+        return constants[ordinal];
+    }
+
+    /**
+     * Get the constants ordered by their ordinals.
+     *
+     * @return unmodifiable list of the constants
+     */
+    public List<Constant<T>> asList() {
+        return list;
+    }
+
+    /**
+     * Get number of the ordinals.
+     *
+     * @return number of the constants
+     */
+    public int size() {
+        return constants.length;
+    }
+
+    private void put(Constant<T> constant, int ordinal) {
+        if (constant == null) {
+            throw new IllegalArgumentException("Constants cannot be null");
+        }
+        var slot = spread(constant.hashCode()) & mask;
+        for (; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (slots[slot].equals(constant)) {
+                return;
+            }
+        }
+        slots[slot] = constant;
+        slotsOrdinals[slot] = ordinal;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
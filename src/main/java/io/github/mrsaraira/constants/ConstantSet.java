@@ -0,0 +1,153 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Set of a container constants backed by a bit set of the constants ordinals, like {@link EnumSet} for enums.
+ * The set iterates the constants in the ordinals order and rejects constants the container does not have.
+ * The set is not synchronized.
+ *
+ * @param <T> constant values type
+ * @author Takhsin Saraira
+ * @see ConstantOrdinals
+ * @see ConstantMap
+ */
+public class ConstantSet<T> extends AbstractSet<Constant<T>> {
+
+    private final ConstantOrdinals<T> ordinals;
+    private final BitSet bits;
+
+    private ConstantSet(ConstantOrdinals<T> ordinals, BitSet bits) {
+        this.ordinals = ordinals;
+        this.bits = bits;
+    }
+
+    /**
+     * Create an empty set of the container constants.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @return empty set
+     */
+    public static <T> ConstantSet<T> noneOf(@NonNull ConstantContainer<T> container) {
+        var ordinals = container.getOrdinals();
+        return new ConstantSet<>(ordinals, new BitSet(ordinals.size()));
+    }
+
+    /**
+     * Create a set of all the container constants.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @return set of all the container constants
+     */
+    public static <T> ConstantSet<T> allOf(@NonNull ConstantContainer<T> container) {
+        var set = noneOf(container);
+        set.bits.set(0, set.ordinals.size());
+        return set;
+    }
+
+    /**
+     * Create a copy of the set.
+     *
+     * @return set with the same constants
+     */
+    public ConstantSet<T> copy() {
+        return new ConstantSet<>(ordinals, (BitSet) bits.clone());
+    }
+
+    /**
+     * Create a set of the container constants which are not in this set.
+     *
+     * @return complement set
+     */
+    public ConstantSet<T> complement() {
+        var complement = copy();
+        complement.bits.flip(0, ordinals.size());
+        return complement;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the container has no such constant
+     */
+    @Override
+    public boolean add(Constant<T> constant) {
+        var ordinal = ordinals.ordinalOf(constant);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Constant " + constant + " is not in the container");
+        }
+        var added = !bits.get(ordinal);
+        bits.set(ordinal);
+        return added;
+    }
+
+    @Override
+    public boolean contains(Object constant) {
+        var ordinal = ordinals.ordinalOf(constant);
+        return ordinal >= 0 && bits.get(ordinal);
+    }
+
+    @Override
+    public boolean remove(Object constant) {
+        var ordinal = ordinals.ordinalOf(constant);
+        if (ordinal < 0 || !bits.get(ordinal)) {
+            return false;
+        }
+        bits.clear(ordinal);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return bits.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        bits.clear();
+    }
+
+    @Override
+    public Iterator<Constant<T>> iterator() {
+        return new Iterator<>() {
+
+            private int next = bits.nextSetBit(0);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Constant<T> next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = bits.nextSetBit(next + 1);
+                return ordinals.get(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                bits.clear(last);
+                last = -1;
+            }
+
+        };
+    }
+
+}
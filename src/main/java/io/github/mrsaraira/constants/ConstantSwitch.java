@@ -0,0 +1,195 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Precompiled dispatch of values to handlers bound to container constants, instead of chains of
+ * {@code if (Constants.anyValue(x, A)) ... else if (Constants.anyValue(x, B)) ...} which scan the constants for each branch.
+ * The handlers are bound to the cases with a {@link Builder} and compiled into one hash table of the values,
+ * so dispatching a value is a single lookup.
+ * <p>
+ * The cases are either the container keys, dispatching the keys values, or the entries of an {@link EnumRelationConstantContainer},
+ * dispatching their relation values. If several entries have the same relation value, the first entry handles it,
+ * as in {@link Constants#match(Object, EnumRelationConstantContainer[])}.
+ * The switch is exhaustive: unless a default handler is set, building fails if any case has no handler.
+ *
+ * @param <T> dispatched values type
+ * @param <V> handlers results type
+ * @author Takhsin Saraira
+ */
+public final class ConstantSwitch<T, V> {
+
+    private final Map<T, Function<? super T, ? extends V>> handlers;
+    private final Function<? super T, ? extends V> otherwise;
+
+    private ConstantSwitch(Map<T, Function<? super T, ? extends V>> handlers, Function<? super T, ? extends V> otherwise) {
+        this.handlers = handlers;
+        this.otherwise = otherwise;
+    }
+
+    /**
+     * Create a builder of a switch over the container keys, which dispatches the keys values.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @param <V>       handlers results type
+     * @return switch builder with the container keys cases
+     */
+    public static <T, V> Builder<T, V> of(@NonNull ConstantContainer<T> container) {
+        var ordinals = container.getOrdinals();
+        var caseValues = new ArrayList<List<T>>(ordinals.size());
+        for (var key : ordinals.asList()) {
+            caseValues.add(Collections.singletonList(key.getValue()));
+        }
+        return new Builder<>(ordinals, caseValues);
+    }
+
+    /**
+     * Create a builder of a switch over the enum relation container entries, which dispatches the entries relation values.
+     *
+     * @param enumClass enum relation constant container class
+     * @param <R>       relation values type
+     * @param <V>       handlers results type
+     * @param <E>       enum relation constant container type
+     * @return switch builder with the enum entries cases
+     */
+    public static <R, V, E extends Enum<E> & EnumRelationConstantContainer<?, R, E>> Builder<R, V> byRelationValues(@NonNull Class<E> enumClass) {
+        var entries = Constants.Inner.getEnumValues(enumClass);
+        if (entries.length == 0) {
+            throw new IllegalArgumentException("Enum " + enumClass.getName() + " has no constants");
+        }
+        var caseValues = new ArrayList<List<R>>(entries.length);
+        for (var entry : entries) {
+            var values = new ArrayList<R>();
+            for (var relation : entry.getConstant().getRelations()) {
+                values.add(relation.getValue());
+            }
+            caseValues.add(values);
+        }
+        return new Builder<>(entries[0].getOrdinals(), caseValues);
+    }
+
+    /**
+     * Dispatch the value to its case handler, or to the default handler if no case has the value.
+     *
+     * @param value value to dispatch
+     * @return result of the handler
+     * @throws IllegalArgumentException if no case has the value and the switch has no default handler
+     */
+    public V apply(T value) {
+        var handler = handlers.get(value);
+        if (handler == null) {
+            if (otherwise == null) {
+                throw new IllegalArgumentException("No case of value " + value);
+            }
+            handler = otherwise;
+        }
+        return handler.apply(value);
+    }
+
+    /**
+     * Check if a case has the value.
+     *
+     * @param value value to check
+     * @return true - if the value is dispatched to a case handler, not to the default handler
+     */
+    public boolean hasCase(T value) {
+        return handlers.containsKey(value);
+    }
+
+    /**
+     * Builder binding the handlers to the switch cases.
+     *
+     * @param <T> dispatched values type
+     * @param <V> handlers results type
+     */
+    public static final class Builder<T, V> {
+
+        private final ConstantOrdinals<?> cases;
+        private final List<List<T>> caseValues;
+        private final List<Function<? super T, ? extends V>> caseHandlers;
+        private Function<? super T, ? extends V> otherwise;
+
+        private Builder(ConstantOrdinals<?> cases, List<List<T>> caseValues) {
+            this.cases = cases;
+            this.caseValues = caseValues;
+            this.caseHandlers = new ArrayList<>(Collections.nCopies(cases.size(), null));
+        }
+
+        /**
+         * Bind the handler to the case of the key constant.
+         *
+         * @param key     case key constant, or relation constant of an enum relation container entry
+         * @param handler case handler, receives the dispatched value
+         * @return this builder
+         * @throws IllegalArgumentException if the switch has no such case or the case handler is already bound
+         */
+        public Builder<T, V> on(@NonNull Constant<?> key, @NonNull Function<? super T, ? extends V> handler) {
+            var ordinal = cases.ordinalOf(key);
+            if (ordinal < 0) {
+                throw new IllegalArgumentException("The switch has no case " + key);
+            }
+            if (caseHandlers.get(ordinal) != null) {
+                throw new IllegalArgumentException("Handler of case " + key + " is already bound");
+            }
+            caseHandlers.set(ordinal, handler);
+            return this;
+        }
+
+        /**
+         * Bind the handler to the case of the enum container entry.
+         *
+         * @param entry   enum container entry
+         * @param handler case handler, receives the dispatched value
+         * @return this builder
+         * @throws IllegalArgumentException if the switch has no such case or the case handler is already bound
+         */
+        public Builder<T, V> on(@NonNull EnumConstantContainer<?, ?> entry, @NonNull Function<? super T, ? extends V> handler) {
+            return on(entry.getConstant(), handler);
+        }
+
+        /**
+         * Set the default handler of the values no case has. The switch with a default handler does not need to handle all the cases.
+         *
+         * @param handler default handler, receives the dispatched value
+         * @return this builder
+         */
+        public Builder<T, V> otherwise(@NonNull Function<? super T, ? extends V> handler) {
+            this.otherwise = handler;
+            return this;
+        }
+
+        /**
+         * Compile the bound handlers into the switch.
+         *
+         * @return compiled switch
+         * @throws IllegalStateException if the switch has no default handler and some cases have no handlers
+         */
+        public ConstantSwitch<T, V> build() {
+            var missing = new ArrayList<Constant<?>>();
+            var handlers = new HashMap<T, Function<? super T, ? extends V>>();
+            // the first case having a value claims it, even if the case is left to the default handler
+            var claimed = new HashSet<T>();
+            for (int ordinal = 0; ordinal < cases.size(); ordinal++) {
+                var handler = caseHandlers.get(ordinal);
+                if (handler == null && otherwise == null) {
+                    missing.add(cases.get(ordinal));
+                }
+                for (var value : caseValues.get(ordinal)) {
+                    if (claimed.add(value) && handler != null) {
+                        handlers.put(value, handler);
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("The switch is not exhaustive, no handlers of cases " + missing);
+            }
+            return new ConstantSwitch<>(handlers, otherwise);
+        }
+
+    }
+
+}
@@ -1,9 +1,15 @@
 package io.github.mrsaraira.constants;
 
+import io.github.mrsaraira.constants.internal.CompactCollections;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -21,6 +27,31 @@ import java.util.stream.Stream;
 @UtilityClass
 public final class Constants {
 
+    private static final ConstantInterner INTERNER = new ConstantInterner();
+    private static volatile boolean interningEnabled = Boolean.getBoolean("io.github.mrsaraira.constants.interning");
+
+    /**
+     * Enable or disable interning of the constants created by {@link #of(Object)}, {@link #concat(Object[])} and relation
+     * constants factory methods. While enabled, equal values share a single {@link Constant} instance.
+     * <br>Disabled by default, can be enabled on startup with system property {@code io.github.mrsaraira.constants.interning=true}.
+     * <br><b>Note</b>: Intern only immutable values, the constant values must not change their equality.
+     *
+     * @param enabled true - to enable interning
+     */
+    public static void setInterningEnabled(boolean enabled) {
+        interningEnabled = enabled;
+    }
+
+    /**
+     * Check if interning of the created constants is enabled.
+     *
+     * @return true - if the created constants are interned
+     * @see #setInterningEnabled(boolean)
+     */
+    public static boolean isInterningEnabled() {
+        return interningEnabled;
+    }
+
     /**
      * Create a {@link Constant} of some value.
      *
@@ -29,7 +60,7 @@ public final class Constants {
      * @return a constant with value
      */
     public static <T> Constant<T> of(T value) {
-        return new ConstantImpl<>(value);
+        return constant(value);
     }
 
     /**
@@ -43,11 +74,12 @@ public final class Constants {
      */
     @SafeVarargs
     public static <L, R> RelationConstant<L, R> of(@NonNull L value, @NonNull R... relationValues) {
-        return new RelationConstantImpl<>(new ConstantImpl<>(value), List.of(Constants.concat(relationValues)));
+        return new RelationConstantImpl<>(constant(value), relationValues.clone());
     }
 
     /**
-     * Create a {@link RelationConstant} with its relations stored in supplied collection.
+     * Create a {@link RelationConstant} with its relations collected by supplied collection,
+     * for example a set to remove duplicated relations. The relations are stored in the collection iteration order.
      *
      * @param value              key value
      * @param collectionSupplier collection supplier
@@ -62,7 +94,7 @@ public final class Constants {
         Objects.requireNonNull(collection);
         collection.addAll(List.of(Constants.concat(relationValues)));
 
-        return new RelationConstantImpl<>(new ConstantImpl<>(value), Collections.unmodifiableCollection(collection));
+        return new RelationConstantImpl<>(constant(value), collection.stream().map(Constant::getValue).toArray());
     }
 
     /**
@@ -76,8 +108,12 @@ public final class Constants {
     @SuppressWarnings("unchecked")
     public static <T> Constant<T>[] concat(@NonNull T... values) {
         return Stream.of(values)
-                .map(ConstantImpl::new)
-                .toArray(ConstantImpl[]::new);
+                .map(Constants::constant)
+                .toArray(Constant[]::new);
+    }
+
+    private static <T> Constant<T> constant(T value) {
+        return interningEnabled ? INTERNER.intern(value) : new ConstantImpl<>(value);
     }
 
     /**
@@ -119,9 +155,39 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T> Optional<Constant<T>> match(T value, @NonNull Constant<T>... constants) {
-        return Stream.of(constants)
-                .filter(constant -> Objects.equals(constant.getValue(), value))
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(value, constants));
+    }
+
+    /**
+     * Returns first constant with a value equal to value parameter, without wrapping it in {@link Optional}.
+     *
+     * @param value     value to match
+     * @param constants constants to match
+     * @param <T>       value type
+     * @return constant with constant value equal to value, or null if not found
+     */
+    @SafeVarargs
+    public static <T> Constant<T> matchOrNull(T value, @NonNull Constant<T>... constants) {
+        var index = indexOf(value, constants);
+        return index >= 0 ? constants[index] : null;
+    }
+
+    /**
+     * Returns index of the first constant with a value equal to value parameter.
+     *
+     * @param value     value to match
+     * @param constants constants to match
+     * @param <T>       value type
+     * @return index of the constant with constant value equal to value, or -1 if not found
+     */
+    @SafeVarargs
+    public static <T> int indexOf(T value, @NonNull Constant<T>... constants) {
+        for (int i = 0; i < constants.length; i++) {
+            if (Objects.equals(constants[i].getValue(), value)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -134,9 +200,26 @@ public final class Constants {
      */
     @SafeVarargs
     public static <R> Optional<RelationConstant<?, R>> match(R relationValue, @NonNull RelationConstant<?, R>... constants) {
-        return Stream.of(constants)
-                .filter(constant -> Constants.anyValue(relationValue, constant.getRelations()))
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(relationValue, constants));
+    }
+
+    /**
+     * Returns first relation constant with a relation values having a value equal to value parameter,
+     * without wrapping it in {@link Optional}.
+     *
+     * @param relationValue relation value to match
+     * @param constants     relation constants to match
+     * @param <R>           relation value type
+     * @return relation constant with relation constant having a value equal to value, or null if not found
+     */
+    @SafeVarargs
+    public static <R> RelationConstant<?, R> matchOrNull(R relationValue, @NonNull RelationConstant<?, R>... constants) {
+        for (var constant : constants) {
+            if (constant.hasRelationValue(relationValue)) {
+                return constant;
+            }
+        }
+        return null;
     }
 
     /**
@@ -149,10 +232,27 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T> Optional<Constant<T>> match(T value, @NonNull ConstantContainer<T>... containers) {
-        return Stream.of(containers)
-                .flatMap(container -> container.getAllKeys().stream())
-                .filter(constant -> Constants.anyValue(value, constant))
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(value, containers));
+    }
+
+    /**
+     * Returns first constant of a container having a constant value equal to value parameter,
+     * without wrapping it in {@link Optional}.
+     *
+     * @param value      value to match
+     * @param containers containers to match
+     * @param <T>        value type
+     * @return constant with constant value equal to value, or null if not found
+     */
+    @SafeVarargs
+    public static <T> Constant<T> matchOrNull(T value, @NonNull ConstantContainer<T>... containers) {
+        for (var container : containers) {
+            var constant = Inner.matchOrNull(value, container);
+            if (constant != null) {
+                return constant;
+            }
+        }
+        return null;
     }
 
     /**
@@ -164,14 +264,27 @@ public final class Constants {
      * @return optional relation constant container with relation constant value having value equal to value
      */
     @SafeVarargs
-    @SuppressWarnings("unchecked")
     public static <R> Optional<RelationConstantContainer<?, R>> match(R relationValue, @NonNull RelationConstantContainer<?, R>... containers) {
-        return Stream.of(containers)
-                .filter(container -> {
-                    var array = Constants.toArray(container.getAllRelations(), new RelationConstant[0]);
-                    return Constants.match(relationValue, (RelationConstant<?, R>[]) array).isPresent();
-                })
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(relationValue, containers));
+    }
+
+    /**
+     * Returns first relation constant container having a relation constant value equal to value parameter,
+     * without wrapping it in {@link Optional}.
+     *
+     * @param relationValue value to match
+     * @param containers    relation containers to match
+     * @param <R>           relation value type
+     * @return relation constant container with relation constant value equal to value, or null if not found
+     */
+    @SafeVarargs
+    public static <R> RelationConstantContainer<?, R> matchOrNull(R relationValue, @NonNull RelationConstantContainer<?, R>... containers) {
+        for (var container : containers) {
+            if (Inner.hasRelationValue(relationValue, container)) {
+                return container;
+            }
+        }
+        return null;
     }
 
     /**
@@ -184,9 +297,40 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T> Optional<EnumConstantContainer<T, ?>> match(T value, @NonNull EnumConstantContainer<T, ?>... enums) {
-        return Stream.of(enums)
-                .filter(enumeration -> Objects.equals(enumeration.getConstant().getValue(), value))
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(value, enums));
+    }
+
+    /**
+     * Returns first enumeration having constant value equal to value parameter, without wrapping it in {@link Optional}.
+     *
+     * @param value value to match
+     * @param enums enums to match
+     * @param <T>   value type
+     * @return enumeration with constant value equal to value, or null if not found
+     */
+    @SafeVarargs
+    public static <T> EnumConstantContainer<T, ?> matchOrNull(T value, @NonNull EnumConstantContainer<T, ?>... enums) {
+        Class<?> indexedClass = null;
+        List<Enum<?>> indexed = List.of();
+        for (var enumeration : enums) {
+            if (!(enumeration instanceof Enum<?> enumConstant)) {
+                if (Objects.equals(enumeration.getConstant().getValue(), value)) {
+                    return enumeration;
+                }
+                continue;
+            }
+            // one index lookup per enum class, matching tolerates the enum constants with equal values
+            if (enumConstant.getDeclaringClass() != indexedClass) {
+                indexedClass = enumConstant.getDeclaringClass();
+                indexed = Inner.ENUM_VALUE_INDEXES.get(indexedClass).allByValue(value);
+            }
+            for (int i = 0, size = indexed.size(); i < size; i++) {
+                if (indexed.get(i) == enumeration) {
+                    return enumeration;
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -199,9 +343,39 @@ public final class Constants {
      */
     @SafeVarargs
     public static <R> Optional<EnumRelationConstantContainer<?, R, ? extends Enum<?>>> match(R relationValue, @NonNull EnumRelationConstantContainer<?, R, ?>... enums) {
-        return Stream.of(enums)
-                .filter(enumeration -> Constants.match(relationValue, enumeration.getConstant().getRelations()).isPresent())
-                .findFirst();
+        return Optional.ofNullable(matchOrNull(relationValue, enums));
+    }
+
+    /**
+     * Returns first enumeration having a relation constant value equal to value parameter, without wrapping it in {@link Optional}.
+     *
+     * @param relationValue relation value to match
+     * @param enums         enums to match
+     * @param <R>           relation value type
+     * @return enumeration with relation constant value equal to value parameter, or null if not found
+     */
+    @SafeVarargs
+    public static <R> EnumRelationConstantContainer<?, R, ? extends Enum<?>> matchOrNull(R relationValue, @NonNull EnumRelationConstantContainer<?, R, ?>... enums) {
+        Class<?> indexedClass = null;
+        List<Enum<?>> indexed = List.of();
+        for (var enumeration : enums) {
+            if (!(enumeration instanceof Enum<?> enumConstant)) {
+                if (enumeration.getConstant().hasRelationValue(relationValue)) {
+                    return enumeration;
+                }
+                continue;
+            }
+            if (enumConstant.getDeclaringClass() != indexedClass) {
+                indexedClass = enumConstant.getDeclaringClass();
+                indexed = Inner.ENUM_VALUE_INDEXES.get(indexedClass).byRelationValue(relationValue);
+            }
+            for (int i = 0, size = indexed.size(); i < size; i++) {
+                if (indexed.get(i) == enumeration) {
+                    return enumeration;
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -215,9 +389,12 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T, R> Optional<RelationConstant<T, R>> getRelationByKeyValue(T value, @NonNull RelationConstant<T, R>... constants) {
-        return Stream.of(constants)
-                .filter(constant -> Objects.equals(constant.getValue(), value))
-                .findFirst();
+        for (var constant : constants) {
+            if (Objects.equals(constant.getValue(), value)) {
+                return Optional.of(constant);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -230,9 +407,21 @@ public final class Constants {
      * @return optional relation constant with key value equal to value
      */
     public static <T, R> Optional<RelationConstant<T, R>> getRelationByKeyValue(T value, @NonNull Collection<RelationConstant<T, R>> constantsCollection) {
-        return constantsCollection.stream()
-                .filter(constant -> Objects.equals(constant.getValue(), value))
-                .findFirst();
+        if (constantsCollection instanceof List<RelationConstant<T, R>> list && list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                var constant = list.get(i);
+                if (Objects.equals(constant.getValue(), value)) {
+                    return Optional.of(constant);
+                }
+            }
+            return Optional.empty();
+        }
+        for (var constant : constantsCollection) {
+            if (Objects.equals(constant.getValue(), value)) {
+                return Optional.of(constant);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -245,7 +434,61 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T> boolean anyValue(T value, @NonNull Constant<T>... constant) {
-        return match(value, constant).isPresent();
+        return indexOf(value, constant) >= 0;
+    }
+
+    /**
+     * Check if the constant value matches the passed value, the fixed-arity variant of {@link #anyValue(Object, Constant[])}.
+     *
+     * @param value    value to match
+     * @param constant constant to match
+     * @param <T>      value type
+     * @return true - if the constant value equals value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull Constant<T> constant) {
+        return Objects.equals(constant.getValue(), value);
+    }
+
+    /**
+     * Check if any of the constants values match the passed value, the fixed-arity variant of {@link #anyValue(Object, Constant[])}.
+     *
+     * @param value     value to match
+     * @param constant  constant to match
+     * @param constant2 constant to match
+     * @param <T>       value type
+     * @return true - if any constant value equals value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull Constant<T> constant, @NonNull Constant<T> constant2) {
+        return anyValue(value, constant) || anyValue(value, constant2);
+    }
+
+    /**
+     * Check if any of the constants values match the passed value, the fixed-arity variant of {@link #anyValue(Object, Constant[])}.
+     *
+     * @param value     value to match
+     * @param constant  constant to match
+     * @param constant2 constant to match
+     * @param constant3 constant to match
+     * @param <T>       value type
+     * @return true - if any constant value equals value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull Constant<T> constant, @NonNull Constant<T> constant2, @NonNull Constant<T> constant3) {
+        return anyValue(value, constant) || anyValue(value, constant2) || anyValue(value, constant3);
+    }
+
+    /**
+     * Check if any of the constants values match the passed value, the fixed-arity variant of {@link #anyValue(Object, Constant[])}.
+     *
+     * @param value     value to match
+     * @param constant  constant to match
+     * @param constant2 constant to match
+     * @param constant3 constant to match
+     * @param constant4 constant to match
+     * @param <T>       value type
+     * @return true - if any constant value equals value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull Constant<T> constant, @NonNull Constant<T> constant2, @NonNull Constant<T> constant3, @NonNull Constant<T> constant4) {
+        return anyValue(value, constant) || anyValue(value, constant2) || anyValue(value, constant3) || anyValue(value, constant4);
     }
 
     /**
@@ -259,7 +502,20 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T, C extends ConstantContainer<T>> boolean anyValue(T value, @NonNull C... containers) {
-        return Constants.match(value, containers).isPresent();
+        return matchOrNull(value, containers) != null;
+    }
+
+    /**
+     * Check if the constant container has a constant with value equal to value parameter,
+     * the fixed-arity variant of {@link #anyValue(Object, ConstantContainer[])}.
+     *
+     * @param value     value to match
+     * @param container container to match
+     * @param <T>       values type
+     * @return true - if the container has a constant with value equal to value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull ConstantContainer<T> container) {
+        return Inner.matchOrNull(value, container) != null;
     }
 
     /**
@@ -273,7 +529,20 @@ public final class Constants {
      */
     @SafeVarargs
     public static <T, C extends EnumConstantContainer<T, ?>> boolean anyValue(T value, @NonNull C... enums) {
-        return Constants.match(value, enums).isPresent();
+        return matchOrNull(value, enums) != null;
+    }
+
+    /**
+     * Check if the enum constant container has a constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyValue(Object, EnumConstantContainer[])}.
+     *
+     * @param value       value to match
+     * @param enumeration enum constant container to match
+     * @param <T>         values type
+     * @return true - if the enum constant value equals value parameter
+     */
+    public static <T> boolean anyValue(T value, @NonNull EnumConstantContainer<T, ?> enumeration) {
+        return Objects.equals(enumeration.getConstant().getValue(), value);
     }
 
     /**
@@ -286,7 +555,69 @@ public final class Constants {
      */
     @SafeVarargs
     public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstant<?, R>... constants) {
-        return Constants.match(relationValue, constants).isPresent();
+        return matchOrNull(relationValue, constants) != null;
+    }
+
+    /**
+     * Check if the relation constant has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, RelationConstant[])}.
+     *
+     * @param relationValue value to match
+     * @param constant      relation constant to match
+     * @param <R>           value type
+     * @return true - if the constant has a relation constant value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstant<?, R> constant) {
+        return constant.hasRelationValue(relationValue);
+    }
+
+    /**
+     * Check if any of the relation constants has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, RelationConstant[])}.
+     *
+     * @param relationValue value to match
+     * @param constant      relation constant to match
+     * @param constant2     relation constant to match
+     * @param <R>           value type
+     * @return true - if any constant has a relation constant value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstant<?, R> constant, @NonNull RelationConstant<?, R> constant2) {
+        return constant.hasRelationValue(relationValue) || constant2.hasRelationValue(relationValue);
+    }
+
+    /**
+     * Check if any of the relation constants has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, RelationConstant[])}.
+     *
+     * @param relationValue value to match
+     * @param constant      relation constant to match
+     * @param constant2     relation constant to match
+     * @param constant3     relation constant to match
+     * @param <R>           value type
+     * @return true - if any constant has a relation constant value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstant<?, R> constant, @NonNull RelationConstant<?, R> constant2,
+                                               @NonNull RelationConstant<?, R> constant3) {
+        return constant.hasRelationValue(relationValue) || constant2.hasRelationValue(relationValue)
+                || constant3.hasRelationValue(relationValue);
+    }
+
+    /**
+     * Check if any of the relation constants has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, RelationConstant[])}.
+     *
+     * @param relationValue value to match
+     * @param constant      relation constant to match
+     * @param constant2     relation constant to match
+     * @param constant3     relation constant to match
+     * @param constant4     relation constant to match
+     * @param <R>           value type
+     * @return true - if any constant has a relation constant value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstant<?, R> constant, @NonNull RelationConstant<?, R> constant2,
+                                               @NonNull RelationConstant<?, R> constant3, @NonNull RelationConstant<?, R> constant4) {
+        return constant.hasRelationValue(relationValue) || constant2.hasRelationValue(relationValue)
+                || constant3.hasRelationValue(relationValue) || constant4.hasRelationValue(relationValue);
     }
 
     /**
@@ -300,7 +631,20 @@ public final class Constants {
      */
     @SafeVarargs
     public static <R, C extends RelationConstantContainer<?, R>> boolean anyRelationValue(R relationValue, @NonNull C... containers) {
-        return Constants.match(relationValue, containers).isPresent();
+        return matchOrNull(relationValue, containers) != null;
+    }
+
+    /**
+     * Check if the relation constant container has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, RelationConstantContainer[])}.
+     *
+     * @param relationValue value to match
+     * @param container     relation container to match
+     * @param <R>           value type
+     * @return true - if the container has a relation constant value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull RelationConstantContainer<?, R> container) {
+        return Inner.hasRelationValue(relationValue, container);
     }
 
     /**
@@ -314,7 +658,20 @@ public final class Constants {
      */
     @SafeVarargs
     public static <R, C extends EnumRelationConstantContainer<?, R, ?>> boolean anyRelationValue(R relationValue, @NonNull C... enums) {
-        return Constants.match(relationValue, enums).isPresent();
+        return matchOrNull(relationValue, enums) != null;
+    }
+
+    /**
+     * Check if the enum relation constant container has a relation constant value equal to value parameter,
+     * the fixed-arity variant of {@link #anyRelationValue(Object, EnumRelationConstantContainer[])}.
+     *
+     * @param relationValue relation value to match
+     * @param enumeration   enum relation container to match
+     * @param <R>           relation constant value type
+     * @return true - if the enum relation constant has a relation value equal to value parameter
+     */
+    public static <R> boolean anyRelationValue(R relationValue, @NonNull EnumRelationConstantContainer<?, R, ?> enumeration) {
+        return enumeration.getConstant().hasRelationValue(relationValue);
     }
 
     /**
@@ -327,13 +684,14 @@ public final class Constants {
      * @return optional of the constant value
      */
     public static <T, C extends ConstantContainer<T>> Optional<T> getKeyValue(T value, @NonNull Class<C> containerClass) {
-        return Constants.getAllConstantValues(containerClass).stream()
-                .filter(constantValue -> Objects.equals(constantValue, value))
-                .findFirst();
+        var constant = Inner.matchOrNull(value, Constants.getInstance(containerClass));
+        return constant == null ? Optional.empty() : Optional.ofNullable(constant.getValue());
     }
 
     /**
      * Search a constant value that matches the condition parameter in the container by the container class.
+     * The constants are scanned in the {@link AccessProfile#getScanOrder() scan order} of a profiled container,
+     * so the hottest matching constant is found if the profile scan order was frozen.
      *
      * @param condition      condition to match
      * @param containerClass container class
@@ -342,24 +700,106 @@ public final class Constants {
      * @return optional of the constant value
      */
     public static <T, C extends ConstantContainer<T>> Optional<T> getKeyValue(@NonNull Predicate<T> condition, @NonNull Class<C> containerClass) {
-        return Constants.getAllConstantValues(containerClass).stream()
-                .filter(condition)
-                .findFirst();
+        var constant = Inner.scan(Constants.getInstance(containerClass), condition);
+        return constant == null ? Optional.empty() : Optional.ofNullable(constant.getValue());
     }
 
     /**
      * Get optional enumeration by constant value of some {@link EnumConstantContainer}.
+     * The values of the enum class are indexed once, on the first lookup.
      *
      * @param value          value to match
      * @param containerClass enum container class
      * @param <T>            value type
      * @param <C>            enum constant container
      * @return optional of the enum constant container
+     * @throws IllegalArgumentException if several enum constants have equal values
      */
     public static <T, C extends Enum<?> & EnumConstantContainer<T, ?>> Optional<C> getEnumByValue(T value, @NonNull Class<C> containerClass) {
-        return Stream.of(Inner.getEnumValues(containerClass))
-                .filter(enumEntry -> Objects.equals(enumEntry.getConstant().getValue(), value))
-                .findFirst();
+        return Optional.ofNullable(getEnumByValueOrNull(value, containerClass));
+    }
+
+    /**
+     * Search an enum constant container by its constant value, without wrapping it in {@link Optional}.
+     *
+     * @param value          value to match
+     * @param containerClass enum constant container class
+     * @param <T>            value type
+     * @param <C>            enum constant container
+     * @return enum constant container with constant value equal to value, or null if not found
+     * @throws IllegalArgumentException if several enum constants have equal values
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, C extends Enum<?> & EnumConstantContainer<T, ?>> C getEnumByValueOrNull(T value, @NonNull Class<C> containerClass) {
+        return (C) Inner.ENUM_VALUE_INDEXES.get(containerClass).byValue(value);
+    }
+
+    /**
+     * Get index of the String keys of the container by the container class, to resolve the keys from characters or UTF-8 bytes
+     * without allocation. The index is created once per container class.
+     *
+     * @param containerClass container class
+     * @param <C>            constant container with String keys
+     * @return index of the container keys to the key constants
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends ConstantContainer<String>> StringKeyIndex<Constant<String>> getStringKeyIndex(@NonNull Class<C> containerClass) {
+        return (StringKeyIndex<Constant<String>>) Inner.STRING_KEY_INDEXES.get(containerClass);
+    }
+
+    /**
+     * Get index of the String keys of the enum constant container by its class, to resolve the enums from characters or
+     * UTF-8 bytes without allocation. The index is created once per enum class.
+     *
+     * @param enumClass enum constant container class
+     * @param <E>       enum constant container with String keys
+     * @return index of the enum keys to the enum constants
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & EnumConstantContainer<String, E>> StringKeyIndex<E> getEnumStringKeyIndex(@NonNull Class<E> enumClass) {
+        return (StringKeyIndex<E>) Inner.STRING_KEY_INDEXES.get(enumClass);
+    }
+
+    /**
+     * Get fuzzy index of the String keys of the container by its class, to find the keys despite typos.
+     * The index is created once per container class, on the first call.
+     *
+     * @param containerClass container class, or enum constant container class
+     * @param <C>            constant container with String keys
+     * @return fuzzy index of the container keys
+     */
+    public static <C extends ConstantContainer<String>> FuzzyKeyIndex getFuzzyKeyIndex(@NonNull Class<C> containerClass) {
+        return Inner.FUZZY_KEY_INDEXES.get(containerClass);
+    }
+
+    /**
+     * Find the container keys within the edit distance from the query, using the container fuzzy index instead of scanning the keys.
+     *
+     * @param query          query to match, such as a free-text code with typos
+     * @param maxEdits       maximum number of the inserted, deleted or substituted characters
+     * @param containerClass container class, or enum constant container class
+     * @param limit          maximum number of the candidates
+     * @param <C>            constant container with String keys
+     * @return unmodifiable list of the candidates ranked by the edit distance, then ordered as the container keys
+     * @see FuzzyKeyIndex#find(String, int, int)
+     */
+    public static <C extends ConstantContainer<String>> List<FuzzyKeyIndex.Match> fuzzyMatch(@NonNull String query, int maxEdits,
+                                                                                            @NonNull Class<C> containerClass, int limit) {
+        return getFuzzyKeyIndex(containerClass).find(query, maxEdits, limit);
+    }
+
+    /**
+     * Get codec of the container constants by the container class, to send the constants between nodes as their ordinals.
+     * The codec is created once per container class.
+     *
+     * @param containerClass container class, or enum constant container class
+     * @param <T>            constant values type
+     * @param <C>            constant container type
+     * @return codec of the container constants
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, C extends ConstantContainer<T>> ContainerCodec<T> getContainerCodec(@NonNull Class<C> containerClass) {
+        return (ContainerCodec<T>) Inner.CONTAINER_CODECS.get(containerClass);
     }
 
     /**
@@ -373,7 +813,7 @@ public final class Constants {
     public static <T> Set<T> getValues(@NonNull Constant<T>... constants) {
         return Arrays.stream(constants)
                 .map(Constant::getValue)
-                .collect(Collectors.toUnmodifiableSet());
+                .collect(CompactCollections.toSet());
     }
 
     /**
@@ -442,7 +882,7 @@ public final class Constants {
         return Arrays.stream(Inner.getEnumValues(type))
                 .map(enumEntry -> enumEntry.getConstant())
                 .map(Constant::getValue)
-                .collect(Collectors.toUnmodifiableSet());
+                .collect(CompactCollections.toSet());
     }
 
     /**
@@ -523,11 +963,117 @@ public final class Constants {
         return (T) Inner.getInstance(type);
     }
 
+    /**
+     * Construct and index the containers in parallel using the executor, for example a {@link ForkJoinPool} or
+     * a virtual thread per task executor. The constructed containers are cached as by {@link #getInstance(Class)},
+     * the {@link io.github.mrsaraira.constants.containers.ContainerOption#LAZY lazy} containers are materialized,
+     * and the enum containers constants are cached.
+     * <br>The containers may depend on each other using {@link #getInstance(Class)}, every container is constructed once.
+     * Cyclic dependencies between the containers fail their initialization instead of dead-locking.
+     *
+     * @param types    constant container classes
+     * @param executor executor running the initializations
+     * @return report of each container initialization, including the failures
+     */
+    public static InitializationReport initializeAll(@NonNull Collection<Class<?>> types, @NonNull Executor executor) {
+        return Inner.initializeAll(types, executor);
+    }
+
+    /**
+     * Construct and index the containers in parallel using the common {@link ForkJoinPool}.
+     *
+     * @param types constant container classes
+     * @return report of each container initialization, including the failures
+     * @see #initializeAll(Collection, Executor)
+     */
+    public static InitializationReport initializeAll(@NonNull Collection<Class<?>> types) {
+        return initializeAll(types, ForkJoinPool.commonPool());
+    }
+
     @UtilityClass
     final class Inner {
 
-        private final Map<Class<?>, ConstantContainer<?>> CONSTANTS_CACHE = new HashMap<>();
-        private final Map<Class<?>, Object[]> ENUM_CONSTANTS_CACHE = new HashMap<>();
+        private final Map<Class<?>, ConstantContainer<?>> CONSTANTS_CACHE = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Object[]> ENUM_CONSTANTS_CACHE = new ConcurrentHashMap<>();
+        private final ClassValue<EnumValueIndex> ENUM_VALUE_INDEXES = new ClassValue<>() {
+            @Override
+            protected EnumValueIndex computeValue(Class<?> type) {
+                return EnumValueIndex.of(type);
+            }
+        };
+
+        // containers being instantiated, the threads instantiating them and the containers the threads are waiting for
+        private final Map<Class<?>, Instantiation> INSTANTIATIONS = new ConcurrentHashMap<>();
+        private final Map<Thread, Class<?>> WAITING = new ConcurrentHashMap<>();
+        private final ThreadLocal<Deque<Class<?>>> CONSTRUCTING = ThreadLocal.withInitial(ArrayDeque::new);
+
+        private final ClassValue<StringKeyIndex<?>> STRING_KEY_INDEXES = new ClassValue<>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            protected StringKeyIndex<?> computeValue(Class<?> type) {
+                if (type.isEnum()) {
+                    return StringKeyIndex.ofEnum((Class) type);
+                }
+                return StringKeyIndex.of(getInstance((Class<ConstantContainer<String>>) type));
+            }
+        };
+
+        private final ClassValue<FuzzyKeyIndex> FUZZY_KEY_INDEXES = new ClassValue<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected FuzzyKeyIndex computeValue(Class<?> type) {
+                if (type.isEnum()) {
+                    return FuzzyKeyIndex.of((ConstantContainer<String>) enumContainer(type));
+                }
+                return FuzzyKeyIndex.of(getInstance((Class<ConstantContainer<String>>) type));
+            }
+        };
+
+        private final ClassValue<ContainerCodec<?>> CONTAINER_CODECS = new ClassValue<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected ContainerCodec<?> computeValue(Class<?> type) {
+                if (type.isEnum()) {
+                    return ContainerCodec.of(enumContainer(type));
+                }
+                return ContainerCodec.of(getInstance((Class<ConstantContainer<?>>) type));
+            }
+        };
+
+        final ClassValue<ConstantOrdinals<?>> ENUM_ORDINALS = new ClassValue<>() {
+            @Override
+            protected ConstantOrdinals<?> computeValue(Class<?> type) {
+                return ConstantOrdinals.of(enumContainer(type.isEnum() ? type : type.getSuperclass()));
+            }
+        };
+
+        final ClassValue<RelationPostingIndex<?, ?>> ENUM_POSTING_INDEXES = new ClassValue<>() {
+            @Override
+            protected RelationPostingIndex<?, ?> computeValue(Class<?> type) {
+                return RelationPostingIndex.of((RelationConstantContainer<?, ?>) enumContainer(type.isEnum() ? type : type.getSuperclass()));
+            }
+        };
+
+        // stands for the constants of an enum container without constants
+        private final RelationConstantContainer<Object, Object> EMPTY_ENUM_CONTAINER = new RelationConstantContainer<>() {
+            @Override
+            public Collection<Constant<Object>> getAllKeys() {
+                return List.of();
+            }
+
+            @Override
+            public Collection<RelationConstant<Object, Object>> getAllRelations() {
+                return List.of();
+            }
+        };
+
+        /**
+         * Get a container of the enum constants, which is any of the enum constants, or an empty container if the enum has no constants.
+         */
+        static ConstantContainer<?> enumContainer(Class<?> enumClass) {
+            var enumConstants = enumClass.getEnumConstants();
+            return enumConstants.length > 0 ? (ConstantContainer<?>) enumConstants[0] : EMPTY_ENUM_CONTAINER;
+        }
 
         static <T, C extends ConstantContainer<T>> Set<T> getAllConstantsValues(C constantContainer) {
             if (constantContainer == null) {
@@ -536,9 +1082,9 @@ public final class Constants {
 
             saveToCache(constantContainer);
 
-            return constantContainer.getAllKeys().stream()
+            return constantContainer.stream()
                     .map(Constant::getValue)
-                    .collect(Collectors.toUnmodifiableSet());
+                    .collect(CompactCollections.toSet());
         }
 
         static <R, C extends RelationConstantContainer<?, R>> List<Collection<R>> getAllRelationsValues(C relationConstantContainer) {
@@ -548,13 +1094,55 @@ public final class Constants {
 
             saveToCache(relationConstantContainer);
 
-            return relationConstantContainer.getAllRelations().stream()
+            return relationConstantContainer.relationsStream()
                     .map(relationConstant -> Arrays.stream(relationConstant.getRelations())
                             .map(Constant::getValue)
                             .collect(Collectors.toUnmodifiableList()))
                     .collect(Collectors.toUnmodifiableList());
         }
 
+        static <T> Constant<T> matchOrNull(T value, ConstantContainer<T> container) {
+            if (!container.mightContainValue(value)) {
+                return null;
+            }
+            var constant = container.getKeyOrNull(value);
+            var profile = container.getAccessProfile();
+            if (constant != null && profile != null) {
+                profile.recordHit(container.getOrdinals().ordinalOf(constant));
+            }
+            return constant;
+        }
+
+        /**
+         * Scan the container for the first constant matching the condition.
+         * A profiled container is scanned in its profile scan order and the hit is recorded.
+         */
+        static <T> Constant<T> scan(ConstantContainer<T> container, Predicate<T> condition) {
+            var profile = container.getAccessProfile();
+            if (profile == null) {
+                for (var constant : container.getAllKeys()) {
+                    if (condition.test(constant.getValue())) {
+                        return constant;
+                    }
+                }
+                return null;
+            }
+            var ordinals = container.getOrdinals();
+            for (var ordinal : profile.scanOrdinals()) {
+                var constant = ordinals.get(ordinal);
+                if (condition.test(constant.getValue())) {
+                    profile.recordHit(ordinal);
+                    return constant;
+                }
+            }
+            return null;
+        }
+
+        static <R> boolean hasRelationValue(R relationValue, RelationConstantContainer<?, R> container) {
+            return container.mightContainRelationValue(relationValue)
+                    && container.containsRelationValue(relationValue);
+        }
+
         @SuppressWarnings("unchecked")
         static <E extends Enum<?> & EnumConstantContainer<?, ?>> E[] getEnumValues(@NonNull Class<E> enumClass) {
             return (E[]) ENUM_CONSTANTS_CACHE.computeIfAbsent(enumClass, Class::getEnumConstants);
@@ -566,7 +1154,77 @@ public final class Constants {
 
         @SuppressWarnings("unchecked")
         private static <T extends ConstantContainer<?>> T getInstance(@NonNull Class<T> type) {
-            return (T) CONSTANTS_CACHE.computeIfAbsent(type, clazz -> createInstance(type));
+            var instance = CONSTANTS_CACHE.get(type);
+            if (instance != null) {
+                return (T) instance;
+            }
+
+            var instantiation = new Instantiation(type);
+            var pending = INSTANTIATIONS.putIfAbsent(type, instantiation);
+            if (pending != null) {
+                return (T) pending.await();
+            }
+
+            var constructing = CONSTRUCTING.get();
+            constructing.push(type);
+            try {
+                // the instantiation finished by another thread between the cache miss and the registration
+                instance = CONSTANTS_CACHE.get(type);
+                if (instance != null) {
+                    instantiation.complete(instance, null);
+                    return (T) instance;
+                }
+                var created = createInstance(type);
+                var cached = CONSTANTS_CACHE.putIfAbsent(type, created);
+                instance = cached != null ? cached : created;
+                instantiation.complete(instance, null);
+                return (T) instance;
+            } catch (RuntimeException e) {
+                instantiation.complete(null, e);
+                throw e;
+            } finally {
+                constructing.pop();
+                INSTANTIATIONS.remove(type, instantiation);
+            }
+        }
+
+        static InitializationReport initializeAll(Collection<Class<?>> types, Executor executor) {
+            for (var type : types) {
+                if (!ConstantContainer.class.isAssignableFrom(type)) {
+                    throw new IllegalArgumentException(String.format("Not a constant container class: %s", type));
+                }
+            }
+
+            var start = System.nanoTime();
+            var initializations = types.stream()
+                    .map(type -> CompletableFuture.supplyAsync(() -> initialize(type), executor))
+                    .toList();
+            var report = initializations.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            return new InitializationReport(report, System.nanoTime() - start);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static InitializationReport.ContainerInitialization initialize(Class<?> type) {
+            var start = System.nanoTime();
+            try {
+                if (type.isEnum()) {
+                    ENUM_CONSTANTS_CACHE.computeIfAbsent(type, Class::getEnumConstants);
+                    // detects duplicated enum values
+                    ENUM_VALUE_INDEXES.get(type).checkUniqueValues();
+                } else {
+                    var container = getInstance((Class<ConstantContainer<?>>) type);
+                    // materializes lazy containers
+                    container.getAllKeys().size();
+                    if (container instanceof RelationConstantContainer<?, ?> relationContainer) {
+                        relationContainer.getAllRelations().size();
+                    }
+                }
+                return new InitializationReport.ContainerInitialization(type, System.nanoTime() - start, null);
+            } catch (RuntimeException e) {
+                return new InitializationReport.ContainerInitialization(type, System.nanoTime() - start, e);
+            }
         }
 
         private static <T extends ConstantContainer<?>> T createInstance(@NonNull Class<T> type) {
@@ -579,6 +1237,65 @@ public final class Constants {
             }
         }
 
+        /**
+         * Instantiation of a container by a thread, other threads requesting the container wait for it.
+         */
+        private static final class Instantiation {
+
+            private final Class<?> type;
+            private final Thread owner = Thread.currentThread();
+            private final CountDownLatch done = new CountDownLatch(1);
+            private ConstantContainer<?> instance;
+            private RuntimeException error;
+
+            private Instantiation(Class<?> type) {
+                this.type = type;
+            }
+
+            private void complete(ConstantContainer<?> instance, RuntimeException error) {
+                this.instance = instance;
+                this.error = error;
+                done.countDown();
+            }
+
+            private ConstantContainer<?> await() {
+                var current = Thread.currentThread();
+                WAITING.put(current, type);
+                try {
+                    checkCycle(current);
+                    done.await();
+                } catch (InterruptedException e) {
+                    current.interrupt();
+                    throw new IllegalStateException(String.format("Interrupted while waiting for constant class of type: %s", type), e);
+                } finally {
+                    WAITING.remove(current);
+                }
+                if (error != null) {
+                    throw new IllegalStateException(String.format("Cannot instantiate constant class of type: %s", type), error);
+                }
+                return instance;
+            }
+
+            /**
+             * Follows the instantiations the owner threads are waiting for, a cycle exists if it leads to the current thread.
+             */
+            private void checkCycle(Thread current) {
+                var path = new ArrayList<Class<?>>(CONSTRUCTING.get());
+                Collections.reverse(path);
+                var instantiation = this;
+                while (instantiation != null) {
+                    path.add(instantiation.type);
+                    if (instantiation.owner == current) {
+                        throw new IllegalStateException(String.format("Cyclic dependency between constant containers: %s",
+                                path.stream().map(Class::getName).collect(Collectors.joining(" -> "))));
+                    }
+                    var waitingFor = WAITING.get(instantiation.owner);
+                    instantiation = waitingFor != null ? INSTANTIATIONS.get(waitingFor) : null;
+                }
+            }
+
+        }
+
     }
 
 }
@@ -0,0 +1,170 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact wire encoding of a container constants, which sends a constant as the varint of its ordinal instead of its value
+ * and resolves the received ordinal by indexing the container ordinals. The ordinals below 128 take a single byte.
+ * <p>
+ * Both nodes must have the same container version, with the same keys in the same order. The {@link #getFingerprint() fingerprint}
+ * is derived from the ordered keys values, the nodes exchange it once per connection
+ * ({@link #writeFingerprint(ByteBuffer)} and {@link #checkFingerprint(ByteBuffer)}) to detect mismatched versions.
+ * The fingerprint uses {@link String#valueOf(Object)} of the values, which must be stable between the nodes,
+ * as it is for Strings, numbers and enums.
+ *
+ * @param <T> constant values type
+ * @author Takhsin Saraira
+ * @see Constants#getContainerCodec(Class)
+ */
+public final class ContainerCodec<T> {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final ConstantOrdinals<T> ordinals;
+    private final long fingerprint;
+
+    private ContainerCodec(ConstantOrdinals<T> ordinals) {
+        this.ordinals = ordinals;
+        this.fingerprint = fingerprint(ordinals);
+    }
+
+    /**
+     * Create a codec of the container constants.
+     *
+     * @param container constant container
+     * @param <T>       constant values type
+     * @return codec of the container
+     */
+    public static <T> ContainerCodec<T> of(@NonNull ConstantContainer<T> container) {
+        return new ContainerCodec<>(container.getOrdinals());
+    }
+
+    /**
+     * Get fingerprint of the container keys and their order.
+     *
+     * @return 64-bit fingerprint of the container version
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Write the fingerprint to the buffer, to be checked by the receiving node.
+     *
+     * @param buffer buffer to write to
+     */
+    public void writeFingerprint(@NonNull ByteBuffer buffer) {
+        buffer.putLong(fingerprint);
+    }
+
+    /**
+     * Read the fingerprint written by the sending node and check it equals the fingerprint of this node.
+     *
+     * @param buffer buffer to read from
+     * @throws IllegalStateException if the nodes have different versions of the container
+     */
+    public void checkFingerprint(@NonNull ByteBuffer buffer) {
+        checkFingerprint(buffer.getLong());
+    }
+
+    /**
+     * Check the fingerprint of the other node equals the fingerprint of this node.
+     *
+     * @param otherFingerprint fingerprint of the other node
+     * @throws IllegalStateException if the nodes have different versions of the container
+     */
+    public void checkFingerprint(long otherFingerprint) {
+        if (otherFingerprint != fingerprint) {
+            throw new IllegalStateException(String.format("Container fingerprint mismatch: expected %016x, but was %016x",
+                    fingerprint, otherFingerprint));
+        }
+    }
+
+    /**
+     * Write the constant ordinal varint to the buffer.
+     *
+     * @param constant constant of the container
+     * @param buffer   buffer to write to
+     * @throws IllegalArgumentException if the container has no such constant
+     */
+    public void encode(@NonNull Constant<T> constant, @NonNull ByteBuffer buffer) {
+        var ordinal = ordinals.ordinalOf(constant);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Constant " + constant + " is not in the container");
+        }
+        while ((ordinal & ~0x7F) != 0) {
+            buffer.put((byte) (ordinal & 0x7F | 0x80));
+            ordinal >>>= 7;
+        }
+        buffer.put((byte) ordinal);
+    }
+
+    /**
+     * Read the constant ordinal varint from the buffer.
+     *
+     * @param buffer buffer to read from
+     * @return constant of the container having the ordinal
+     * @throws IllegalArgumentException if the varint is malformed or the container has no constant with the ordinal
+     */
+    public Constant<T> decode(@NonNull ByteBuffer buffer) {
+        var ordinal = 0;
+        for (int i = 0; ; i++) {
+            var next = buffer.get();
+            // the last byte carries the 4 highest bits of the ordinal only, other bits would overflow or continue the varint
+            if (i == MAX_VARINT_BYTES - 1 && (next & 0xF0) != 0) {
+                throw new IllegalArgumentException("Malformed constant ordinal varint");
+            }
+            ordinal |= (next & 0x7F) << (7 * i);
+            if (next >= 0) {
+                break;
+            }
+        }
+        if (ordinal < 0 || ordinal >= ordinals.size()) {
+            throw new IllegalArgumentException("Unknown constant ordinal " + ordinal);
+        }
+        return ordinals.get(ordinal);
+    }
+
+    /**
+     * Get number of the bytes the constant takes encoded.
+     *
+     * @param constant constant of the container
+     * @return encoded size in bytes
+     * @throws IllegalArgumentException if the container has no such constant
+     */
+    public int encodedSize(@NonNull Constant<T> constant) {
+        var ordinal = ordinals.ordinalOf(constant);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Constant " + constant + " is not in the container");
+        }
+        return ordinal < (1 << 7) ? 1 : ordinal < (1 << 14) ? 2 : ordinal < (1 << 21) ? 3 : ordinal < (1 << 28) ? 4 : 5;
+    }
+
+    /**
+     * FNV-1a hash of the number of the keys and the UTF-8 bytes of the keys values, each value prefixed with its length.
+     */
+    private static long fingerprint(ConstantOrdinals<?> ordinals) {
+        var hash = hash(FNV_OFFSET_BASIS, ordinals.size());
+        for (var constant : ordinals.asList()) {
+            var bytes = String.valueOf(constant.getValue()).getBytes(StandardCharsets.UTF_8);
+            hash = hash(hash, bytes.length);
+            for (var b : bytes) {
+                hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, int value) {
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+}
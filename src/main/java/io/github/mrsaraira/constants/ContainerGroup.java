@@ -0,0 +1,153 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.*;
+
+/**
+ * A group of constant containers with one combined index of all the containers constant values.
+ * Answers which container owns a value with a single lookup, instead of scanning every container as
+ * {@link Constants#match(Object, ConstantContainer[])} does.
+ * <p>
+ * The index is rebuilt only when the group members change. If several containers have the same constant value,
+ * the first added container owns it, as in {@link Constants#match(Object, ConstantContainer[])}.
+ * The group is thread-safe, lookups never block.
+ *
+ * @param <T> constants value type
+ * @author Takhsin Saraira
+ * @see ConstantContainer
+ * @see Constants
+ */
+public final class ContainerGroup<T> {
+
+    private volatile Index<T> index = new Index<>(List.of());
+
+    /**
+     * Create a group of the containers.
+     *
+     * @param containers group containers
+     * @param <T>        constants value type
+     * @return group of the containers
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> ContainerGroup<T> of(@NonNull ConstantContainer<T>... containers) {
+        var group = new ContainerGroup<T>();
+        group.index = new Index<>(List.of(containers));
+        return group;
+    }
+
+    /**
+     * Add a container to the group and rebuild the group index.
+     *
+     * @param container container to add
+     * @return true - if the container was added, false - if the group already contains it
+     */
+    public synchronized boolean add(@NonNull ConstantContainer<T> container) {
+        if (index.containers.contains(container)) {
+            return false;
+        }
+        var containers = new ArrayList<>(index.containers);
+        containers.add(container);
+        index = new Index<>(containers);
+        return true;
+    }
+
+    /**
+     * Remove a container from the group and rebuild the group index.
+     *
+     * @param container container to remove
+     * @return true - if the container was removed, false - if the group does not contain it
+     */
+    public synchronized boolean remove(@NonNull ConstantContainer<T> container) {
+        if (!index.containers.contains(container)) {
+            return false;
+        }
+        var containers = new ArrayList<>(index.containers);
+        containers.remove(container);
+        index = new Index<>(containers);
+        return true;
+    }
+
+    /**
+     * Get the group containers.
+     *
+     * @return unmodifiable list of the group containers ordered as added
+     */
+    public List<ConstantContainer<T>> getContainers() {
+        return index.containers;
+    }
+
+    /**
+     * Returns the group member with a constant value equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional member of the container and its constant with the value
+     */
+    public Optional<Member<T>> getMember(T value) {
+        return Optional.ofNullable(index.members.get(value));
+    }
+
+    /**
+     * Returns the constant of the group containers with a value equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional constant with the value
+     */
+    public Optional<Constant<T>> match(T value) {
+        var member = index.members.get(value);
+        return member != null ? Optional.of(member.getConstant()) : Optional.empty();
+    }
+
+    /**
+     * Returns the container which owns a constant with a value equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional container owning the value
+     */
+    public Optional<ConstantContainer<T>> getContainer(T value) {
+        var member = index.members.get(value);
+        return member != null ? Optional.of(member.getContainer()) : Optional.empty();
+    }
+
+    /**
+     * Check if any group container has a constant with value equal to value parameter.
+     *
+     * @param value value to match
+     * @return true - if any container has a constant with the value
+     */
+    public boolean anyValue(T value) {
+        return index.members.containsKey(value);
+    }
+
+    /**
+     * A constant of the group and the container owning it.
+     *
+     * @param <T> constant value type
+     */
+    @Value
+    public static class Member<T> {
+
+        ConstantContainer<T> container;
+        Constant<T> constant;
+
+    }
+
+    private static final class Index<T> {
+
+        private final List<ConstantContainer<T>> containers;
+        private final Map<T, Member<T>> members = new HashMap<>();
+
+        private Index(List<ConstantContainer<T>> containers) {
+            this.containers = List.copyOf(containers);
+            for (var container : this.containers) {
+                for (var constant : container.getAllKeys()) {
+                    members.putIfAbsent(constant.getValue(), new Member<>(container, constant));
+                }
+            }
+        }
+
+    }
+
+}
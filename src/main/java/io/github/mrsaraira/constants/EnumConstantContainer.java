@@ -1,9 +1,12 @@
 package io.github.mrsaraira.constants;
 
+import io.github.mrsaraira.constants.internal.CompactCollections;
+
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Enumeration constant container that stores a {@link Constant}.
@@ -26,14 +29,49 @@ public interface EnumConstantContainer<L, E extends Enum<E> & EnumConstantContai
 
     @Override
     default Collection<Constant<L>> getAllKeys() {
-        return Arrays.stream(values()).map(EnumConstantContainer::getConstant).collect(Collectors.toUnmodifiableSet());
+        return Arrays.stream(values()).map(EnumConstantContainer::getConstant).collect(CompactCollections.toSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is sized and ordered as the enum constants.
+     */
+    @Override
+    default Stream<Constant<L>> stream() {
+        return Arrays.stream(values()).map(EnumConstantContainer::getConstant);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The ordinals are equal to the enum constants ordinals and are created once per enum class.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default ConstantOrdinals<L> getOrdinals() {
+        return (ConstantOrdinals<L>) Constants.Inner.ENUM_ORDINALS.get(getClass());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The enum constants are scanned by their ordinals, without collecting the keys.
+     */
+    @Override
+    default Constant<L> getKeyOrNull(L value) {
+        var ordinals = getOrdinals();
+        for (int i = 0, size = ordinals.size(); i < size; i++) {
+            var constant = ordinals.get(i);
+            if (Objects.equals(constant.getValue(), value)) {
+                return constant;
+            }
+        }
+        return null;
     }
 
     @Override
     default Set<L> getAllValues() {
-        return getAllKeys().stream()
+        return stream()
                 .map(Constant::getValue)
-                .collect(Collectors.toUnmodifiableSet());
+                .collect(CompactCollections.toSet());
     }
 
     @SuppressWarnings("unchecked")
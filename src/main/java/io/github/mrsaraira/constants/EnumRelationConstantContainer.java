@@ -1,9 +1,12 @@
 package io.github.mrsaraira.constants;
 
+import io.github.mrsaraira.constants.internal.CompactCollections;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Enumeration relation constant container that stores a {@link RelationConstant}.
@@ -36,12 +39,36 @@ public interface EnumRelationConstantContainer<L, R, E extends Enum<E> & EnumRel
 
     @Override
     default Collection<RelationConstant<L, R>> getAllRelations() {
-        return Arrays.stream(values()).map(EnumRelationConstantContainer::getConstant).collect(Collectors.toUnmodifiableSet());
+        return Arrays.stream(values()).map(EnumRelationConstantContainer::getConstant).collect(CompactCollections.toSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is sized and ordered as the enum constants.
+     */
+    @Override
+    default Stream<RelationConstant<L, R>> relationsStream() {
+        return Arrays.stream(values()).map(EnumRelationConstantContainer::getConstant);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The index is created once per enum class.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    default RelationPostingIndex<L, R> getRelationPostingIndex() {
+        return (RelationPostingIndex<L, R>) Constants.Inner.ENUM_POSTING_INDEXES.get(getClass());
+    }
+
+    @Override
+    default boolean containsRelationValue(R relationValue) {
+        return getRelationPostingIndex().containsRelationValue(relationValue);
     }
 
     @Override
     default List<Collection<R>> getAllRelationsValues() {
-        return getAllRelations().stream()
+        return relationsStream()
                 .map(RelationConstant::getRelations)
                 .map(Constants::getValues)
                 .collect(Collectors.toUnmodifiableList());
@@ -0,0 +1,114 @@
+package io.github.mrsaraira.constants;
+
+import java.util.*;
+
+/**
+ * Immutable index of an enum constant container class, of the constant values to the enum constants,
+ * and of the relation values to the enum constants having them for {@link EnumRelationConstantContainer enum relation containers}.
+ * Created once per enum class, replaces scanning the enum constants in the enum lookups.
+ *
+ * @author Takhsin Saraira
+ * @see Constants#getEnumByValue(Object, Class)
+ */
+final class EnumValueIndex {
+
+    private final Map<Object, List<Enum<?>>> byValue;
+    private final Map<Object, List<Enum<?>>> byRelationValue;
+    // message of the first duplicated value, or null if the enum constants values are unique
+    private final String duplicatedValues;
+
+    private EnumValueIndex(Class<?> enumClass) {
+        var enumConstants = (Enum<?>[]) enumClass.getEnumConstants();
+        var byValue = new HashMap<Object, List<Enum<?>>>(enumConstants.length * 2);
+        String duplicatedValues = null;
+        for (var enumConstant : enumConstants) {
+            var value = ((EnumConstantContainer<?, ?>) enumConstant).getConstant().getValue();
+            var enums = byValue.get(value);
+            if (enums == null) {
+                byValue.put(value, List.of(enumConstant));
+                continue;
+            }
+            if (duplicatedValues == null) {
+                duplicatedValues = String.format("Duplicated keys were found in %s: %s and %s have value %s",
+                        enumClass.getName(), enums.get(0).name(), enumConstant.name(), value);
+            }
+            var merged = new ArrayList<Enum<?>>(enums.size() + 1);
+            merged.addAll(enums);
+            merged.add(enumConstant);
+            byValue.put(value, List.copyOf(merged));
+        }
+        this.byValue = byValue;
+        this.duplicatedValues = duplicatedValues;
+
+        if (!EnumRelationConstantContainer.class.isAssignableFrom(enumClass)) {
+            this.byRelationValue = Collections.emptyMap();
+            return;
+        }
+        var byRelationValue = new HashMap<Object, List<Enum<?>>>();
+        for (var enumConstant : enumConstants) {
+            for (var relation : ((EnumRelationConstantContainer<?, ?, ?>) enumConstant).getConstant().getRelations()) {
+                var enums = byRelationValue.computeIfAbsent(relation.getValue(), relationValue -> new ArrayList<>(1));
+                if (enums.isEmpty() || enums.get(enums.size() - 1) != enumConstant) {
+                    enums.add(enumConstant);
+                }
+            }
+        }
+        byRelationValue.replaceAll((relationValue, enums) -> List.copyOf(enums));
+        this.byRelationValue = byRelationValue;
+    }
+
+    /**
+     * Create the index of the enum constant container class.
+     *
+     * @param enumClass enum constant container class
+     * @return index of the enum constants
+     */
+    static EnumValueIndex of(Class<?> enumClass) {
+        return new EnumValueIndex(enumClass);
+    }
+
+    /**
+     * Check that the enum constants values are unique.
+     *
+     * @throws IllegalArgumentException if several enum constants have equal values
+     */
+    void checkUniqueValues() {
+        if (duplicatedValues != null) {
+            throw new IllegalArgumentException(duplicatedValues);
+        }
+    }
+
+    /**
+     * Get the enum constant having the constant value.
+     *
+     * @param value constant value
+     * @return enum constant, or null if not found
+     * @throws IllegalArgumentException if several enum constants have equal values
+     */
+    Enum<?> byValue(Object value) {
+        checkUniqueValues();
+        var enums = byValue.get(value);
+        return enums != null ? enums.get(0) : null;
+    }
+
+    /**
+     * Get the enum constants having the constant value, tolerating the enum constants with equal values.
+     *
+     * @param value constant value
+     * @return enum constants ordered as declared, or empty list if not found
+     */
+    List<Enum<?>> allByValue(Object value) {
+        return byValue.getOrDefault(value, List.of());
+    }
+
+    /**
+     * Get the enum constants having the relation value.
+     *
+     * @param relationValue relation value
+     * @return enum constants ordered as declared, or empty list if not found
+     */
+    List<Enum<?>> byRelationValue(Object relationValue) {
+        return byRelationValue.getOrDefault(relationValue, List.of());
+    }
+
+}
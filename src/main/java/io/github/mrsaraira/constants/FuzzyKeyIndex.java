@@ -0,0 +1,259 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.*;
+
+/**
+ * Immutable index of String keys for approximate lookups, which finds the keys within a number of edits
+ * (insertions, deletions and substitutions of characters, the Levenshtein distance) from a query.
+ * <p>
+ * The keys are indexed by their bigrams, padded at both ends. A key within {@code k} edits from the query shares at least
+ * {@code max(|key|, |query|) + 1 - 2k} bigrams with it, since every edit changes at most two bigrams. The lookup
+ * counts the shared bigrams of the keys having the query bigrams only, and computes the edit distance of the keys
+ * passing the count. Keys so short that the count cannot filter them are checked by their length buckets.
+ * <p>
+ * The keys are compared by chars, case-sensitive. Null keys are not indexed.
+ *
+ * @author Takhsin Saraira
+ * @see Constants#fuzzyMatch(String, int, Class, int)
+ */
+public final class FuzzyKeyIndex {
+
+    private static final char PADDING = '\0';
+
+    private final Constant<String>[] constants;
+    private final int[] gramKeys;
+    private final int[] gramSlots;
+    private final int[][] postingOrdinals;
+    private final int[][] postingCounts;
+    private final int gramMask;
+    private final int[][] ordinalsByLength;
+
+    @SuppressWarnings("unchecked")
+    private FuzzyKeyIndex(Collection<Constant<String>> keys) {
+        this.constants = keys.stream().filter(key -> key.getValue() != null).toArray(Constant[]::new);
+
+        var postings = new LinkedHashMap<Integer, Map<Integer, Integer>>();
+        var lengths = new TreeMap<Integer, List<Integer>>();
+        for (int ordinal = 0; ordinal < constants.length; ordinal++) {
+            var key = constants[ordinal].getValue();
+            for (int i = 0; i <= key.length(); i++) {
+                postings.computeIfAbsent(gram(key, i), gram -> new LinkedHashMap<>()).merge(ordinal, 1, Integer::sum);
+            }
+            lengths.computeIfAbsent(key.length(), length -> new ArrayList<>()).add(ordinal);
+        }
+
+        var capacity = Integer.highestOneBit(Math.max(2, postings.size() * 2 - 1)) << 1;
+        this.gramKeys = new int[capacity];
+        this.gramSlots = new int[capacity];
+        this.gramMask = capacity - 1;
+        this.postingOrdinals = new int[postings.size()][];
+        this.postingCounts = new int[postings.size()][];
+        var index = 0;
+        for (var posting : postings.entrySet()) {
+            var slot = spread(posting.getKey()) & gramMask;
+            while (gramSlots[slot] != 0) {
+                slot = (slot + 1) & gramMask;
+            }
+            gramKeys[slot] = posting.getKey();
+            gramSlots[slot] = index + 1;
+            postingOrdinals[index] = posting.getValue().keySet().stream().mapToInt(Integer::intValue).toArray();
+            postingCounts[index] = posting.getValue().values().stream().mapToInt(Integer::intValue).toArray();
+            index++;
+        }
+
+        var maxLength = lengths.isEmpty() ? 0 : lengths.lastKey();
+        this.ordinalsByLength = new int[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            ordinalsByLength[length] = lengths.getOrDefault(length, List.of()).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Create an index of the container keys.
+     *
+     * @param container container with String keys
+     * @return fuzzy index of the container keys
+     */
+    public static FuzzyKeyIndex of(@NonNull ConstantContainer<String> container) {
+        return new FuzzyKeyIndex(container.getOrdinals().asList());
+    }
+
+    /**
+     * Find the keys within the edits from the query, ranked by the edit distance, the keys having equal distances
+     * are ordered as the container keys.
+     *
+     * @param query    query to match
+     * @param maxEdits maximum edit distance of the keys from the query
+     * @param limit    maximum number of the keys to return
+     * @return unmodifiable list of the matching keys, the exact match is first if found
+     */
+    public List<Match> find(@NonNull String query, int maxEdits, int limit) {
+        if (maxEdits < 0) {
+            throw new IllegalArgumentException("Max edits cannot be negative");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        // no key is farther than the longest of the query and the keys, larger edits would overflow the bounds
+        var edits = Math.min(maxEdits, Math.max(query.length(), ordinalsByLength.length - 1));
+
+        // distance in the high and ordinal in the low 32 bits, to rank the matches by sorting
+        var ranks = new ArrayList<Long>();
+        sharedGrams(query).forEach((ordinal, sharedCount) -> {
+            var length = constants[ordinal].getValue().length();
+            var threshold = threshold(query, length, edits);
+            if (threshold > 0 && sharedCount >= threshold && Math.abs(length - query.length()) <= edits) {
+                rank(query, ordinal, edits, ranks);
+            }
+        });
+        // the keys too short to be filtered by the shared bigrams
+        var maxLength = Math.min(ordinalsByLength.length - 1, query.length() + edits);
+        for (int length = Math.max(0, query.length() - edits); length <= maxLength; length++) {
+            if (threshold(query, length, edits) <= 0) {
+                for (var ordinal : ordinalsByLength[length]) {
+                    rank(query, ordinal, edits, ranks);
+                }
+            }
+        }
+
+        Collections.sort(ranks);
+        var matches = new ArrayList<Match>(Math.min(limit, ranks.size()));
+        for (int i = 0; i < ranks.size() && i < limit; i++) {
+            long rank = ranks.get(i);
+            matches.add(new Match(constants[(int) rank], (int) (rank >>> 32)));
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Get number of the indexed keys.
+     *
+     * @return number of the keys
+     */
+    public int size() {
+        return constants.length;
+    }
+
+    /**
+     * Count the bigrams each key shares with the query, as multisets. Only the keys having any of the query bigrams are counted.
+     */
+    private Map<Integer, Integer> sharedGrams(String query) {
+        var queryGrams = new HashMap<Integer, Integer>();
+        for (int i = 0; i <= query.length(); i++) {
+            queryGrams.merge(gram(query, i), 1, Integer::sum);
+        }
+
+        var shared = new HashMap<Integer, Integer>();
+        queryGrams.forEach((gram, queryCount) -> {
+            var posting = posting(gram);
+            if (posting < 0) {
+                return;
+            }
+            var ordinals = postingOrdinals[posting];
+            var counts = postingCounts[posting];
+            for (int i = 0; i < ordinals.length; i++) {
+                shared.merge(ordinals[i], Math.min(queryCount, counts[i]), Integer::sum);
+            }
+        });
+        return shared;
+    }
+
+    private void rank(String query, int ordinal, int maxEdits, List<Long> ranks) {
+        var distance = distance(query, constants[ordinal].getValue(), maxEdits);
+        if (distance <= maxEdits) {
+            ranks.add((long) distance << 32 | ordinal);
+        }
+    }
+
+    /**
+     * Minimum number of the bigrams shared by the query and a key of the length within the max edits.
+     */
+    private static int threshold(String query, int length, int maxEdits) {
+        return Math.max(length, query.length()) + 1 - 2 * maxEdits;
+    }
+
+    private int posting(int gram) {
+        for (int slot = spread(gram) & gramMask; gramSlots[slot] != 0; slot = (slot + 1) & gramMask) {
+            if (gramKeys[slot] == gram) {
+                return gramSlots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bigram ending at the index of the string padded at both ends.
+     */
+    private static int gram(String string, int index) {
+        var first = index == 0 ? PADDING : string.charAt(index - 1);
+        var second = index == string.length() ? PADDING : string.charAt(index);
+        return first << 16 | second;
+    }
+
+    /**
+     * Levenshtein distance computed within the diagonal band of the max edits, stopped once it exceeds the max edits.
+     *
+     * @return distance of the strings, or any value above the max edits if the distance exceeds them
+     */
+    private static int distance(String first, String second, int maxEdits) {
+        var exceeded = maxEdits + 1;
+        var previous = new int[second.length() + 1];
+        var current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j <= maxEdits ? j : exceeded;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            var from = Math.max(1, i - maxEdits);
+            var to = Math.min(second.length(), i + maxEdits);
+            current[0] = i <= maxEdits ? i : exceeded;
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+            var rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                var substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                var distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, exceeded);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMin > maxEdits) {
+                return exceeded;
+            }
+            var swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static int spread(int hash) {
+        var mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Key found by a fuzzy lookup.
+     */
+    @Value
+    public static class Match {
+
+        /**
+         * The matching key constant.
+         */
+        Constant<String> constant;
+
+        /**
+         * Edit distance of the key from the query, 0 for the exact match.
+         */
+        int distance;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.github.mrsaraira.constants;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Report of the containers initialized by {@link Constants#initializeAll(java.util.Collection, java.util.concurrent.Executor)}.
+ *
+ * @author Takhsin Saraira
+ * @see Constants#initializeAll(java.util.Collection, java.util.concurrent.Executor)
+ */
+@Value
+public class InitializationReport {
+
+    /**
+     * Initialization of each container, ordered as the requested container classes.
+     */
+    List<ContainerInitialization> containers;
+
+    /**
+     * Elapsed time of the whole initialization.
+     */
+    long elapsedNanos;
+
+    /**
+     * Check if all the containers were initialized.
+     *
+     * @return true - if no container initialization failed
+     */
+    public boolean isSuccessful() {
+        return containers.stream().allMatch(ContainerInitialization::isSuccessful);
+    }
+
+    /**
+     * Get the failed containers initializations.
+     *
+     * @return list of the failed initializations
+     */
+    public List<ContainerInitialization> getFailures() {
+        return containers.stream().filter(initialization -> !initialization.isSuccessful()).toList();
+    }
+
+    /**
+     * Get sum of the containers initialization times, compared with {@link #getElapsedNanos()} it shows the parallelism.
+     *
+     * @return total initialization time of all the containers
+     */
+    public long getTotalNanos() {
+        return containers.stream().mapToLong(ContainerInitialization::getNanos).sum();
+    }
+
+    /**
+     * Initialization of a single container.
+     */
+    @Value
+    public static class ContainerInitialization {
+
+        /**
+         * Container class.
+         */
+        Class<?> type;
+
+        /**
+         * Time spent constructing and indexing the container, including waiting for the containers it depends on.
+         */
+        long nanos;
+
+        /**
+         * The initialization failure, or null if the container was initialized.
+         */
+        Throwable error;
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+    }
+
+}
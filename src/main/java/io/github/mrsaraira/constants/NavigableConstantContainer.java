@@ -0,0 +1,84 @@
+package io.github.mrsaraira.constants;
+
+import io.github.mrsaraira.constants.containers.AbstractNavigableConstantContainer;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A container that stores constants sorted by their comparable values, for example ranges lower bounds.
+ * Besides the {@link ConstantContainer} operations, the constants can be navigated in O(log n).
+ *
+ * @param <T> constants key type
+ * @author Takhsin Saraira
+ * @see AbstractNavigableConstantContainer
+ * @see ConstantContainer
+ */
+public interface NavigableConstantContainer<T extends Comparable<? super T>> extends ConstantContainer<T> {
+
+    /**
+     * Returns the constant with the greatest value less than or equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional constant with the greatest value less than or equal to value
+     */
+    Optional<Constant<T>> floor(T value);
+
+    /**
+     * Returns the constant with the least value greater than or equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional constant with the least value greater than or equal to value
+     */
+    Optional<Constant<T>> ceiling(T value);
+
+    /**
+     * Returns the constants with values in range from the value inclusive to the value exclusive.
+     *
+     * @param from range start value inclusive
+     * @param to   range end value exclusive
+     * @return sorted list of the constants in the range
+     */
+    List<Constant<T>> range(T from, T to);
+
+    /**
+     * Returns the bracket containing value parameter, the bracket starts at a constant value inclusive and ends at the next
+     * constant value exclusive.
+     *
+     * @param value value to match
+     * @return optional bracket containing the value, empty if the value is less than all the constants values
+     */
+    Optional<Bracket<T>> bracketOf(T value);
+
+    /**
+     * A bracket between two adjacent constants of the container.
+     *
+     * @param <T> constants key type
+     */
+    @Value
+    class Bracket<T extends Comparable<? super T>> {
+
+        /**
+         * Bracket start constant, its value is inclusive.
+         */
+        Constant<T> lower;
+
+        /**
+         * Bracket end constant, its value is exclusive. Null for the last bracket which has no end.
+         */
+        Constant<T> upper;
+
+        /**
+         * Check if the bracket contains the value.
+         *
+         * @param value value to check
+         * @return true - if the value is in the bracket
+         */
+        public boolean contains(T value) {
+            return lower.getValue().compareTo(value) <= 0 && (upper == null || upper.getValue().compareTo(value) > 0);
+        }
+
+    }
+
+}
@@ -26,4 +26,14 @@ public interface RelationConstant<L, R> extends Constant<L> {
      */
     Constant<R>[] getRelations();
 
+    /**
+     * Check if any relation constant has a value equal to the relation value parameter.
+     *
+     * @param relationValue relation value to check
+     * @return true - if any relation constant value equals the relation value parameter
+     */
+    default boolean hasRelationValue(R relationValue) {
+        return Constants.anyValue(relationValue, getRelations());
+    }
+
 }
@@ -4,6 +4,8 @@ import io.github.mrsaraira.constants.containers.AbstractRelationConstantContaine
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * A container that stores constants and their relations.
@@ -35,4 +37,114 @@ public interface RelationConstantContainer<L, R> extends ConstantContainer<L> {
         return Constants.Inner.getAllRelationsValues(this);
     }
 
+    /**
+     * Get relation constant by its key value.
+     * The default implementation scans the relation constants, the implementations should index them.
+     *
+     * @param value key value
+     * @return optional relation constant with key value equal to value
+     */
+    default Optional<RelationConstant<L, R>> getRelationByKeyValue(L value) {
+        return Constants.getRelationByKeyValue(value, getAllRelations());
+    }
+
+    /**
+     * Get sequential stream of the relation constants.
+     * The default implementation streams {@link #getAllRelations()}, the implementations may provide streams that split better.
+     *
+     * @return stream of the relation constants
+     */
+    default Stream<RelationConstant<L, R>> relationsStream() {
+        return getAllRelations().stream();
+    }
+
+    /**
+     * Get parallel stream of the relation constants.
+     *
+     * @return parallel stream of the relation constants
+     * @see #relationsStream()
+     */
+    default Stream<RelationConstant<L, R>> parallelRelationsStream() {
+        return relationsStream().parallel();
+    }
+
+    /**
+     * Check if the container might have a relation constant with relation value equal to value parameter, used to reject
+     * missing relation values without scanning the container. The default implementation cannot reject any value.
+     *
+     * @param relationValue relation value to check
+     * @return false - if the container has no relation constant with the relation value for sure, true - if it might have
+     */
+    default boolean mightContainRelationValue(R relationValue) {
+        return true;
+    }
+
+    /**
+     * Check if any relation constant of the container has the relation value.
+     * The default implementation scans {@link #getAllRelations()}, the implementations may answer by their indexes.
+     *
+     * @param relationValue relation value to check
+     * @return true - if any relation constant has the relation value
+     */
+    default boolean containsRelationValue(R relationValue) {
+        for (var relation : getAllRelations()) {
+            if (relation.hasRelationValue(relationValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get inverted index of the relation values to the keys having them.
+     * The default implementation creates the index on every call, the implementations should cache it.
+     *
+     * @return posting index of the container relation constants
+     */
+    default RelationPostingIndex<L, R> getRelationPostingIndex() {
+        return RelationPostingIndex.of(this);
+    }
+
+    /**
+     * Returns the keys having all the relation values and none of the excluded relation values,
+     * for example the roles with CREATE and UPDATE permissions but without DELETE permission.
+     *
+     * @param relationValues         relation values the keys must have
+     * @param excludedRelationValues relation values the keys must not have
+     * @return keys matching the query, ordered as the container keys
+     */
+    default List<Constant<L>> keysWith(Collection<R> relationValues, Collection<R> excludedRelationValues) {
+        return getRelationPostingIndex().keysWith(relationValues, excludedRelationValues);
+    }
+
+    /**
+     * Returns the keys having all the relation values.
+     *
+     * @param relationValues relation values the keys must have
+     * @return keys having all the relation values, ordered as the container keys
+     */
+    default List<Constant<L>> keysWithAll(Collection<R> relationValues) {
+        return getRelationPostingIndex().keysWithAll(relationValues);
+    }
+
+    /**
+     * Returns the keys having any of the relation values.
+     *
+     * @param relationValues relation values the keys may have
+     * @return keys having any of the relation values, ordered as the container keys
+     */
+    default List<Constant<L>> keysWithAny(Collection<R> relationValues) {
+        return getRelationPostingIndex().keysWithAny(relationValues);
+    }
+
+    /**
+     * Returns the keys having none of the relation values.
+     *
+     * @param relationValues relation values the keys must not have
+     * @return keys having none of the relation values, ordered as the container keys
+     */
+    default List<Constant<L>> keysWithNone(Collection<R> relationValues) {
+        return getRelationPostingIndex().keysWithNone(relationValues);
+    }
+
 }
@@ -5,10 +5,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.Collection;
+import java.util.Objects;
 
 /**
  * Immutable implementation of {@link RelationConstant}. Its value is equal to its key value.
+ * The relation values are stored inline in an array, and the relation constants are created on demand.
  * <p>
  * {@inheritDoc}
  *
@@ -23,7 +24,7 @@ class RelationConstantImpl<L, R> implements RelationConstant<L, R> {
 
     @Getter
     private final Constant<L> key;
-    private final Collection<Constant<R>> relations;
+    private final Object[] relationValues;
 
     @Override
     public L getValue() {
@@ -33,7 +34,21 @@ class RelationConstantImpl<L, R> implements RelationConstant<L, R> {
     @Override
     @SuppressWarnings("unchecked")
     public Constant<R>[] getRelations() {
-        return Constants.toArray(relations, new Constant[0]);
+        var relations = new Constant[relationValues.length];
+        for (int i = 0; i < relationValues.length; i++) {
+            relations[i] = Constants.of(relationValues[i]);
+        }
+        return relations;
+    }
+
+    @Override
+    public boolean hasRelationValue(R relationValue) {
+        for (var value : relationValues) {
+            if (Objects.equals(value, relationValue)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
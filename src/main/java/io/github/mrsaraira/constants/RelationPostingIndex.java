@@ -0,0 +1,142 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Immutable inverted index of relation values to the keys having them, for set-algebra queries over relations.
+ * Each relation value has a posting bit set of the keys ordinals (the keys order in the container),
+ * so the queries are bit set intersections and unions instead of scanning all the relation constants.
+ *
+ * @param <L> constant keys values type
+ * @param <R> relation constants values type
+ * @author Takhsin Saraira
+ * @see RelationConstantContainer#keysWithAll(Collection)
+ * @see RelationConstantContainer#keysWithAny(Collection)
+ * @see RelationConstantContainer#keysWithNone(Collection)
+ */
+public final class RelationPostingIndex<L, R> {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final List<Constant<L>> keys;
+    private final Map<R, BitSet> postings = new HashMap<>();
+
+    private RelationPostingIndex(Collection<RelationConstant<L, R>> relations) {
+        var keys = new ArrayList<Constant<L>>(relations.size());
+        for (var relation : relations) {
+            var ordinal = keys.size();
+            keys.add(relation.getKey());
+            for (var relationConstant : relation.getRelations()) {
+                postings.computeIfAbsent(relationConstant.getValue(), value -> new BitSet()).set(ordinal);
+            }
+        }
+        this.keys = Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Create a posting index of the container relation constants.
+     *
+     * @param container relation constant container
+     * @param <L>       constant keys values type
+     * @param <R>       relation constants values type
+     * @return posting index of the container
+     */
+    public static <L, R> RelationPostingIndex<L, R> of(@NonNull RelationConstantContainer<L, R> container) {
+        return new RelationPostingIndex<>(container.getAllRelations());
+    }
+
+    /**
+     * Check if any key has the relation value.
+     *
+     * @param relationValue relation value to check
+     * @return true - if any key has the relation value
+     */
+    public boolean containsRelationValue(R relationValue) {
+        return postings.containsKey(relationValue);
+    }
+
+    /**
+     * Returns the keys having all the relation values and none of the excluded relation values.
+     *
+     * @param relationValues         relation values the keys must have
+     * @param excludedRelationValues relation values the keys must not have
+     * @return keys matching the query, ordered as the container keys
+     */
+    public List<Constant<L>> keysWith(@NonNull Collection<R> relationValues, @NonNull Collection<R> excludedRelationValues) {
+        BitSet result = null;
+        for (var relationValue : relationValues) {
+            var posting = posting(relationValue);
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+            if (result.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (result == null) {
+            result = new BitSet(keys.size());
+            result.set(0, keys.size());
+        }
+        for (var excludedRelationValue : excludedRelationValues) {
+            result.andNot(posting(excludedRelationValue));
+        }
+        return toKeys(result);
+    }
+
+    /**
+     * Returns the keys having all the relation values.
+     *
+     * @param relationValues relation values the keys must have
+     * @return keys having all the relation values, ordered as the container keys
+     */
+    public List<Constant<L>> keysWithAll(@NonNull Collection<R> relationValues) {
+        return keysWith(relationValues, List.of());
+    }
+
+    /**
+     * Returns the keys having any of the relation values.
+     *
+     * @param relationValues relation values the keys may have
+     * @return keys having any of the relation values, ordered as the container keys
+     */
+    public List<Constant<L>> keysWithAny(@NonNull Collection<R> relationValues) {
+        return toKeys(union(relationValues));
+    }
+
+    /**
+     * Returns the keys having none of the relation values.
+     *
+     * @param relationValues relation values the keys must not have
+     * @return keys having none of the relation values, ordered as the container keys
+     */
+    public List<Constant<L>> keysWithNone(@NonNull Collection<R> relationValues) {
+        var result = union(relationValues);
+        result.flip(0, keys.size());
+        return toKeys(result);
+    }
+
+    private BitSet union(Collection<R> relationValues) {
+        var result = new BitSet(keys.size());
+        for (var relationValue : relationValues) {
+            result.or(posting(relationValue));
+        }
+        return result;
+    }
+
+    private BitSet posting(R relationValue) {
+        return postings.getOrDefault(relationValue, EMPTY);
+    }
+
+    private List<Constant<L>> toKeys(BitSet ordinals) {
+        var result = new ArrayList<Constant<L>>(ordinals.cardinality());
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            result.add(keys.get(ordinal));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.util.*;
+
+/**
+ * Immutable references of a relation container keys to the keys of another container, which the relation values are equal to.
+ * For example, the currencies of a countries relation container resolved to the keys of a currencies container.
+ * The relation values are resolved once, when the references are created, so the traversal reads the referenced constants
+ * directly by the keys ordinals, and the multi-hop references composed by {@link #then(RelationReferences)} are
+ * resolved once for all the hops.
+ *
+ * @param <L> source container keys values type
+ * @param <R> referenced container keys values type
+ * @author Takhsin Saraira
+ * @see ConstantOrdinals
+ */
+public final class RelationReferences<L, R> {
+
+    private final ConstantOrdinals<L> sourceOrdinals;
+    private final ConstantOrdinals<R> targetOrdinals;
+    private final int[][] targets;
+    private final List<List<Constant<R>>> targetsConstants;
+
+    private RelationReferences(ConstantOrdinals<L> sourceOrdinals, ConstantOrdinals<R> targetOrdinals, int[][] targets) {
+        this.sourceOrdinals = sourceOrdinals;
+        this.targetOrdinals = targetOrdinals;
+        this.targets = targets;
+
+        var targetsConstants = new ArrayList<List<Constant<R>>>(targets.length);
+        for (var ordinals : targets) {
+            var constants = new ArrayList<Constant<R>>(ordinals.length);
+            for (var ordinal : ordinals) {
+                constants.add(targetOrdinals.get(ordinal));
+            }
+            targetsConstants.add(Collections.unmodifiableList(constants));
+        }
+        this.targetsConstants = Collections.unmodifiableList(targetsConstants);
+    }
+
+    /**
+     * Resolve the relation values of the source container to the keys of the target container.
+     *
+     * @param source relation container which relation values refer to the target container keys
+     * @param target referenced container
+     * @param <L>    source container keys values type
+     * @param <R>    referenced container keys values type
+     * @return references of the source keys to the target keys
+     * @throws IllegalArgumentException if a relation value is not a key of the target container
+     */
+    public static <L, R> RelationReferences<L, R> of(@NonNull RelationConstantContainer<L, R> source, @NonNull ConstantContainer<R> target) {
+        var sourceOrdinals = source.getOrdinals();
+        var targetOrdinals = target.getOrdinals();
+
+        var targetKeys = new HashMap<R, Integer>(targetOrdinals.size() * 2);
+        for (int ordinal = targetOrdinals.size() - 1; ordinal >= 0; ordinal--) {
+            targetKeys.put(targetOrdinals.get(ordinal).getValue(), ordinal);
+        }
+
+        var targets = new int[sourceOrdinals.size()][];
+        for (var relation : source.getAllRelations()) {
+            var relations = relation.getRelations();
+            var ordinals = new int[relations.length];
+            for (int i = 0; i < relations.length; i++) {
+                var ordinal = targetKeys.get(relations[i].getValue());
+                if (ordinal == null) {
+                    throw new IllegalArgumentException(String.format("Relation value %s of key %s is not a key of %s",
+                            relations[i].getValue(), relation.getValue(), target.getClass().getName()));
+                }
+                ordinals[i] = ordinal;
+            }
+            targets[sourceOrdinals.ordinalOf(relation.getKey())] = ordinals;
+        }
+        for (int ordinal = 0; ordinal < targets.length; ordinal++) {
+            if (targets[ordinal] == null) {
+                targets[ordinal] = new int[0];
+            }
+        }
+        return new RelationReferences<>(sourceOrdinals, targetOrdinals, targets);
+    }
+
+    /**
+     * Compose the references with the references of the referenced container, resolving the two hops at once.
+     * The targets of each key are distinct and ordered as found following the hops.
+     *
+     * @param next references of the referenced container keys
+     * @param <V>  keys values type of the container referenced by the next references
+     * @return references of the source keys to the keys referenced by the next references
+     * @throws IllegalArgumentException if the next references are not of this references target container
+     */
+    public <V> RelationReferences<L, V> then(@NonNull RelationReferences<R, V> next) {
+        if (!next.sourceOrdinals.asList().equals(targetOrdinals.asList())) {
+            throw new IllegalArgumentException("The next references must be of the referenced container keys");
+        }
+
+        var composed = new int[targets.length][];
+        var visited = new BitSet(next.targetOrdinals.size());
+        for (int ordinal = 0; ordinal < targets.length; ordinal++) {
+            visited.clear();
+            var ordinals = new int[next.targetOrdinals.size()];
+            var size = 0;
+            for (var target : targets[ordinal]) {
+                for (var nextTarget : next.targets[target]) {
+                    if (!visited.get(nextTarget)) {
+                        visited.set(nextTarget);
+                        ordinals[size++] = nextTarget;
+                    }
+                }
+            }
+            composed[ordinal] = Arrays.copyOf(ordinals, size);
+        }
+        return new RelationReferences<>(sourceOrdinals, next.targetOrdinals, composed);
+    }
+
+    /**
+     * Get the referenced keys of the source key.
+     *
+     * @param key source container key
+     * @return unmodifiable list of the referenced keys, ordered as the relation values, or empty list if the source container has no such key
+     */
+    public List<Constant<R>> getTargets(Constant<L> key) {
+        var ordinal = sourceOrdinals.ordinalOf(key);
+        return ordinal >= 0 ? targetsConstants.get(ordinal) : List.of();
+    }
+
+    /**
+     * Get the referenced keys of the source key by its ordinal.
+     *
+     * @param ordinal source container key ordinal
+     * @return unmodifiable list of the referenced keys, ordered as the relation values
+     * @throws IndexOutOfBoundsException if the ordinal is out of the source container ordinals range
+     */
+    public List<Constant<R>> getTargets(int ordinal) {
+        return targetsConstants.get(ordinal);
+    }
+
+    /**
+     * Get number of the referenced keys of the source key by its ordinal.
+     *
+     * @param ordinal source container key ordinal
+     * @return number of the referenced keys
+     */
+    public int getTargetsCount(int ordinal) {
+        return targets[ordinal].length;
+    }
+
+    /**
+     * Get ordinal of a referenced key in the referenced container, to follow the references of the referenced container.
+     *
+     * @param ordinal source container key ordinal
+     * @param index   index of the referenced key, ordered as the relation values
+     * @return ordinal of the referenced key in the referenced container ordinals
+     */
+    public int getTargetOrdinal(int ordinal, int index) {
+        return targets[ordinal][index];
+    }
+
+    /**
+     * Get ordinals of the source container keys.
+     *
+     * @return source container ordinals
+     */
+    public ConstantOrdinals<L> getSourceOrdinals() {
+        return sourceOrdinals;
+    }
+
+    /**
+     * Get ordinals of the referenced container keys.
+     *
+     * @return referenced container ordinals
+     */
+    public ConstantOrdinals<R> getTargetOrdinals() {
+        return targetOrdinals;
+    }
+
+}
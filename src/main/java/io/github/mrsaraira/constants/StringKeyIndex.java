@@ -0,0 +1,314 @@
+package io.github.mrsaraira.constants;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Immutable hash index of String keys, which resolves keys directly from a {@link CharSequence} range,
+ * UTF-8 bytes of a byte array or of a {@link ByteBuffer}, without allocating an intermediate String.
+ * The lookups hash and compare the input characters against the stored keys and never allocate.
+ * <p>
+ * If several keys are equal, the first one is indexed. Null keys are not indexed.
+ *
+ * @param <V> indexed values type, the key constants or the enum constants
+ * @author Takhsin Saraira
+ * @see Constants#getStringKeyIndex(Class)
+ * @see Constants#getEnumStringKeyIndex(Class)
+ */
+public final class StringKeyIndex<V> {
+
+    private static final long MALFORMED = -1;
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private StringKeyIndex(Collection<String> keys, Collection<V> values) {
+        var capacity = Integer.highestOneBit(Math.max(2, keys.size() * 2 - 1)) << 1;
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+
+        var size = 0;
+        var valuesIterator = values.iterator();
+        for (var key : keys) {
+            var value = valuesIterator.next();
+            if (key != null && put(key, value)) {
+                size++;
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * Create an index of the container keys to the key constants.
+     *
+     * @param container container with String keys
+     * @return index of the container keys
+     */
+    public static StringKeyIndex<Constant<String>> of(@NonNull ConstantContainer<String> container) {
+        var constants = new ArrayList<>(container.getAllKeys());
+        return new StringKeyIndex<>(constants.stream().map(Constant::getValue).toList(), constants);
+    }
+
+    /**
+     * Create an index of the enum constant container keys to the enum constants.
+     *
+     * @param enumClass enum constant container class with String keys
+     * @param <E>       enum constant container type
+     * @return index of the enum keys
+     */
+    public static <E extends Enum<E> & EnumConstantContainer<String, E>> StringKeyIndex<E> ofEnum(@NonNull Class<E> enumClass) {
+        var enums = Arrays.asList(Constants.Inner.getEnumValues(enumClass));
+        return new StringKeyIndex<>(enums.stream().map(enumEntry -> enumEntry.getConstant().getValue()).toList(), enums);
+    }
+
+    /**
+     * Get the value of the key equal to the characters.
+     *
+     * @param chars key characters
+     * @return value of the key, or null if not found
+     */
+    public V get(@NonNull CharSequence chars) {
+        return get(chars, 0, chars.length());
+    }
+
+    /**
+     * Get the value of the key equal to the characters range.
+     *
+     * @param chars key characters
+     * @param start range start index inclusive
+     * @param end   range end index exclusive
+     * @return value of the key, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public V get(@NonNull CharSequence chars, int start, int end) {
+        Objects.checkFromToIndex(start, end, chars.length());
+        var hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+
+        var length = end - start;
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            var key = keys[slot];
+            if (hashes[slot] == hash && key.length() == length && equals(key, chars, start)) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the value of the key equal to the UTF-8 bytes range.
+     *
+     * @param bytes  key UTF-8 bytes
+     * @param offset range start index
+     * @param length range length
+     * @return value of the key, or null if not found or the bytes are malformed
+     */
+    public V get(@NonNull byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return getUtf8(bytes, offset, length);
+    }
+
+    /**
+     * Get the value of the key equal to the UTF-8 bytes from the buffer position to its limit.
+     * The buffer position is not changed.
+     *
+     * @param buffer key UTF-8 bytes
+     * @return value of the key, or null if not found or the bytes are malformed
+     */
+    public V get(@NonNull ByteBuffer buffer) {
+        return getUtf8(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Get the value of the key equal to the UTF-8 bytes range of the buffer. The buffer position is not changed.
+     *
+     * @param buffer key UTF-8 bytes
+     * @param index  range start absolute index
+     * @param length range length
+     * @return value of the key, or null if not found or the bytes are malformed
+     */
+    public V get(@NonNull ByteBuffer buffer, int index, int length) {
+        Objects.checkFromIndexSize(index, length, buffer.limit());
+        return getUtf8(buffer, index, length);
+    }
+
+    /**
+     * Check if the index contains a key equal to the characters.
+     *
+     * @param chars key characters
+     * @return true - if the key is found
+     */
+    public boolean containsKey(@NonNull CharSequence chars) {
+        return get(chars) != null;
+    }
+
+    /**
+     * Get number of the indexed keys.
+     *
+     * @return number of the keys
+     */
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getUtf8(Object source, int offset, int length) {
+        var decoded = Utf8.hashAndLength(source, offset, length);
+        if (decoded == MALFORMED) {
+            return null;
+        }
+
+        var hash = (int) decoded;
+        var charsLength = (int) (decoded >>> 32);
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            var key = keys[slot];
+            if (hashes[slot] == hash && key.length() == charsLength && Utf8.equals(key, source, offset, length)) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    private boolean put(String key, Object value) {
+        var hash = key.hashCode();
+        var slot = spread(hash) & mask;
+        for (; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(key)) {
+                return false;
+            }
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        values[slot] = value;
+        return true;
+    }
+
+    private static boolean equals(String key, CharSequence chars, int start) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != chars.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * UTF-8 decoding of a byte array or a byte buffer range into UTF-16 chars, as {@link String} stores them.
+     */
+    private static final class Utf8 {
+
+        /**
+         * Compute {@link String#hashCode()} and length of the decoded chars.
+         *
+         * @return the length in the high and the hash in the low 32 bits, or {@link #MALFORMED}
+         */
+        static long hashAndLength(Object source, int offset, int length) {
+            var hash = 0;
+            var charsLength = 0;
+            var end = offset + length;
+            for (int i = offset; i < end; ) {
+                var codePoint = codePoint(source, i, end);
+                if (codePoint < 0) {
+                    return MALFORMED;
+                }
+                i += sequenceLength(byteAt(source, i));
+                if (Character.isBmpCodePoint(codePoint)) {
+                    hash = 31 * hash + codePoint;
+                    charsLength++;
+                } else {
+                    hash = 31 * hash + Character.highSurrogate(codePoint);
+                    hash = 31 * hash + Character.lowSurrogate(codePoint);
+                    charsLength += 2;
+                }
+            }
+            return ((long) charsLength << 32) | (hash & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Compare the decoded chars with the key, the bytes are well-formed and have the key length in chars.
+         */
+        static boolean equals(String key, Object source, int offset, int length) {
+            var end = offset + length;
+            var charIndex = 0;
+            for (int i = offset; i < end; ) {
+                var codePoint = codePoint(source, i, end);
+                i += sequenceLength(byteAt(source, i));
+                if (Character.isBmpCodePoint(codePoint)) {
+                    if (key.charAt(charIndex++) != codePoint) {
+                        return false;
+                    }
+                } else if (key.charAt(charIndex++) != Character.highSurrogate(codePoint)
+                        || key.charAt(charIndex++) != Character.lowSurrogate(codePoint)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Decode code point of the UTF-8 sequence starting at the index.
+         *
+         * @return code point, or -1 if the sequence is malformed
+         */
+        private static int codePoint(Object source, int index, int end) {
+            var first = byteAt(source, index);
+            var sequenceLength = sequenceLength(first);
+            if (sequenceLength == 1) {
+                return first;
+            }
+            if (sequenceLength < 0 || index + sequenceLength > end) {
+                return -1;
+            }
+
+            var codePoint = first & (0xFF >>> (sequenceLength + 1));
+            for (int i = 1; i < sequenceLength; i++) {
+                var next = byteAt(source, index + i);
+                if ((next & 0xC0) != 0x80) {
+                    return -1;
+                }
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+
+            var overlong = codePoint < (sequenceLength == 2 ? 0x80 : sequenceLength == 3 ? 0x800 : 0x10000);
+            if (overlong || Character.isSurrogate((char) codePoint) && sequenceLength == 3 || codePoint > Character.MAX_CODE_POINT) {
+                return -1;
+            }
+            return codePoint;
+        }
+
+        private static int sequenceLength(int first) {
+            if (first < 0x80) {
+                return 1;
+            } else if ((first & 0xE0) == 0xC0) {
+                return 2;
+            } else if ((first & 0xF0) == 0xE0) {
+                return 3;
+            } else if ((first & 0xF8) == 0xF0) {
+                return 4;
+            }
+            return -1;
+        }
+
+        private static int byteAt(Object source, int index) {
+            return (source instanceof byte[] bytes ? bytes[index] : ((ByteBuffer) source).get(index)) & 0xFF;
+        }
+
+    }
+
+}
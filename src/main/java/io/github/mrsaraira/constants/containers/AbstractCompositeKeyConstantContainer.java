@@ -0,0 +1,57 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.CompositeKey;
+import io.github.mrsaraira.constants.CompositeKeyIndex;
+import io.github.mrsaraira.constants.ConstantContainer;
+
+/**
+ * Implementation of {@link ConstantContainer} with multi-field {@link CompositeKey} keys, such as (country, currency, channel),
+ * indexed by the full keys and by the {@link #indexedPrefixLengths() leading components}.
+ * The keys <b>must have the same number of components</b>.
+ * <p>
+ * {@inheritDoc}
+ *
+ * @author Takhsin Saraira
+ * @see CompositeKeyIndex
+ */
+public abstract class AbstractCompositeKeyConstantContainer extends AbstractConstantContainer<CompositeKey> {
+
+    private final Lazy<CompositeKeyIndex> keyIndex = Lazy.onDemand(() -> CompositeKeyIndex.of(this, indexedPrefixLengths()));
+
+    protected AbstractCompositeKeyConstantContainer() {
+        this(new ContainerOption[0]);
+    }
+
+    /**
+     * Create the container with the options.
+     *
+     * @param options container options
+     */
+    protected AbstractCompositeKeyConstantContainer(ContainerOption... options) {
+        super(options);
+        if (!ContainerOption.LAZY.in(options)) {
+            keyIndex.get();
+        }
+    }
+
+    /**
+     * Defines the numbers of the leading key components to create secondary indexes on, for example 1 and 2 to query
+     * (country, currency, channel) keys by (country) and by (country, currency).
+     *
+     * @return numbers of the leading components, none by default
+     */
+    protected int[] indexedPrefixLengths() {
+        return new int[0];
+    }
+
+    /**
+     * Get index of the container keys, to query the keys by the full keys or the leading components without creating lookup keys.
+     * The index is created with the container, or on the first access of a {@link ContainerOption#LAZY} container.
+     *
+     * @return index of the container keys
+     */
+    public final CompositeKeyIndex getKeyIndex() {
+        return keyIndex.get();
+    }
+
+}
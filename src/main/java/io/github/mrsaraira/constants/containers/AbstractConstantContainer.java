@@ -1,15 +1,20 @@
 package io.github.mrsaraira.constants.containers;
 
+import io.github.mrsaraira.constants.AccessProfile;
 import io.github.mrsaraira.constants.Constant;
 import io.github.mrsaraira.constants.ConstantContainer;
+import io.github.mrsaraira.constants.ConstantOrdinals;
+import io.github.mrsaraira.constants.internal.CompactCollections;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link ConstantContainer} that stores constants in unmodifiable ordered Set, where similar keys are stored once.
  *
  * <br><b>Requirement:</b> The <u>constants</u> <b>must be static or static final</b> if passed to
  * {@link AbstractConstantContainer#initialConstants() initialConstants()} method from the container class fields!
+ * The requirement is lifted for the containers created with {@link ContainerOption#LAZY} option, which are materialized on the first access.
  * <p>
  * {@inheritDoc}
  *
@@ -21,9 +26,33 @@ import java.util.*;
 public abstract class AbstractConstantContainer<T> implements ConstantContainer<T> {
 
     protected final Collection<Constant<T>> constants;
+    private final Lazy<BloomFilter> valuesFilter;
+    private final Lazy<Object[]> constantsArray = Lazy.onDemand(() -> getAllKeys().toArray());
+    private final Lazy<ConstantOrdinals<T>> ordinals = Lazy.onDemand(() -> ConstantOrdinals.of(this));
+    private final Lazy<AccessProfile<T>> accessProfile;
 
     protected AbstractConstantContainer() {
-        this.constants = Collections.unmodifiableSet(new LinkedHashSet<>(initialConstants()));
+        this(new ContainerOption[0]);
+    }
+
+    /**
+     * Create the container with the options.
+     *
+     * @param options container options
+     */
+    protected AbstractConstantContainer(ContainerOption... options) {
+        var keys = Lazy.of(() -> CompactCollections.copyOfSet(initialConstants()), options);
+        this.constants = Lazy.set(keys);
+        this.valuesFilter = ContainerOption.BLOOM_FILTER.in(options)
+                ? Lazy.onDemand(() -> BloomFilter.of(constants.stream().map(Constant::getValue).toList()))
+                : null;
+        this.accessProfile = ContainerOption.PROFILE.in(options) ? Lazy.onDemand(() -> AccessProfile.of(this)) : null;
+        if (!ContainerOption.LAZY.in(options)) {
+            ordinals.get();
+            if (valuesFilter != null) {
+                valuesFilter.get();
+            }
+        }
     }
 
     /**
@@ -43,4 +72,57 @@ public abstract class AbstractConstantContainer<T> implements ConstantContainer<
         return ConstantContainer.super.getAllValues();
     }
 
+    /**
+     * {@inheritDoc}
+     * The stream is sized, immutable, distinct and ordered, and splits evenly for parallel streams.
+     */
+    @Override
+    public final Stream<Constant<T>> stream() {
+        return ContainerStreams.of(constantsArray.get(), false);
+    }
+
+    @Override
+    public final Stream<Constant<T>> parallelStream() {
+        return ContainerStreams.of(constantsArray.get(), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The ordinals are assigned with the container construction, or on the first access of a {@link ContainerOption#LAZY} container.
+     */
+    @Override
+    public final ConstantOrdinals<T> getOrdinals() {
+        return ordinals.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The constants are scanned by their ordinals, without iterating the keys collection.
+     */
+    @Override
+    public final Constant<T> getKeyOrNull(T value) {
+        var ordinals = this.ordinals.get();
+        for (int i = 0, size = ordinals.size(); i < size; i++) {
+            var constant = ordinals.get(i);
+            if (Objects.equals(constant.getValue(), value)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public final boolean mightContainValue(T value) {
+        return valuesFilter == null || valuesFilter.get().mightContain(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The profile is created on the first access of a container created with {@link ContainerOption#PROFILE} option.
+     */
+    @Override
+    public final AccessProfile<T> getAccessProfile() {
+        return accessProfile == null ? null : accessProfile.get();
+    }
+
 }
@@ -0,0 +1,181 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.ConstantOrdinals;
+import io.github.mrsaraira.constants.NavigableConstantContainer;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link NavigableConstantContainer} that stores constants in an array sorted by the constants values,
+ * where similar keys are stored once (the first one of the initial constants).
+ * The keys are ordered by their values, not as the initial constants list.
+ *
+ * <br><b>Requirement:</b> The <u>constants</u> <b>must be static or static final</b> if passed to
+ * {@link AbstractNavigableConstantContainer#initialConstants() initialConstants()} method from the container class fields!
+ * The requirement is lifted for the containers created with {@link ContainerOption#LAZY} option, which are materialized on the first access.
+ * <br><b>Requirement2:</b> The keys <b>must not be null</b>.
+ * <p>
+ * {@inheritDoc}
+ *
+ * @param <T> constant keys values type
+ * @author Takhsin Saraira
+ * @see NavigableConstantContainer
+ * @see Constant
+ */
+public abstract class AbstractNavigableConstantContainer<T extends Comparable<? super T>> implements NavigableConstantContainer<T> {
+
+    private final Lazy<SortedKeys<T>> keys;
+    private final Lazy<ConstantOrdinals<T>> ordinals = Lazy.onDemand(() -> ConstantOrdinals.of(this));
+
+    protected AbstractNavigableConstantContainer() {
+        this(new ContainerOption[0]);
+    }
+
+    /**
+     * Create the container with the options.
+     *
+     * @param options container options
+     */
+    protected AbstractNavigableConstantContainer(ContainerOption... options) {
+        this.keys = Lazy.of(() -> new SortedKeys<>(initialConstants()), options);
+        if (!ContainerOption.LAZY.in(options)) {
+            ordinals.get();
+        }
+    }
+
+    /**
+     * Defines the container initial constants.
+     *
+     * @return list of the container constants
+     */
+    protected abstract List<Constant<T>> initialConstants();
+
+    @Override
+    public final Collection<Constant<T>> getAllKeys() {
+        return keys.get().list;
+    }
+
+    @Override
+    public final Set<T> getAllValues() {
+        return NavigableConstantContainer.super.getAllValues();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is sized, immutable, distinct and ordered by the keys values, and splits evenly for parallel streams.
+     */
+    @Override
+    public final Stream<Constant<T>> stream() {
+        return ContainerStreams.of(keys.get().constants, false);
+    }
+
+    @Override
+    public final Stream<Constant<T>> parallelStream() {
+        return ContainerStreams.of(keys.get().constants, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The ordinals follow the keys values order.
+     */
+    @Override
+    public final ConstantOrdinals<T> getOrdinals() {
+        return ordinals.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The key is found by binary search over the sorted keys values.
+     */
+    @Override
+    public final Constant<T> getKeyOrNull(T value) {
+        if (value == null) {
+            return null;
+        }
+        var sortedKeys = keys.get();
+        var index = Arrays.binarySearch(sortedKeys.values, value);
+        return index >= 0 && sortedKeys.constants[index].getValue().equals(value) ? sortedKeys.constants[index] : null;
+    }
+
+    @Override
+    public final Optional<Constant<T>> floor(T value) {
+        var sortedKeys = keys.get();
+        return sortedKeys.get(sortedKeys.floorIndex(value));
+    }
+
+    @Override
+    public final Optional<Constant<T>> ceiling(T value) {
+        var sortedKeys = keys.get();
+        return sortedKeys.get(sortedKeys.ceilingIndex(value));
+    }
+
+    @Override
+    public final List<Constant<T>> range(T from, T to) {
+        var sortedKeys = keys.get();
+        var fromIndex = sortedKeys.ceilingIndex(from);
+        var toIndex = sortedKeys.ceilingIndex(to);
+        return fromIndex < toIndex ? sortedKeys.list.subList(fromIndex, toIndex) : List.of();
+    }
+
+    @Override
+    public final Optional<Bracket<T>> bracketOf(T value) {
+        var sortedKeys = keys.get();
+        var index = sortedKeys.floorIndex(value);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        var upper = index + 1 < sortedKeys.constants.length ? sortedKeys.constants[index + 1] : null;
+        return Optional.of(new Bracket<>(sortedKeys.constants[index], upper));
+    }
+
+    /**
+     * Constants sorted by their values with the values array for binary search.
+     */
+    private static final class SortedKeys<T extends Comparable<? super T>> {
+
+        private final Constant<T>[] constants;
+        private final Object[] values;
+        private final List<Constant<T>> list;
+
+        @SuppressWarnings("unchecked")
+        private SortedKeys(List<Constant<T>> initialConstants) {
+            var sorted = new ArrayList<>(initialConstants);
+            for (var constant : sorted) {
+                if (constant.getValue() == null) {
+                    throw new IllegalArgumentException("Navigable container keys cannot be null");
+                }
+            }
+            // stable sort, so the first of the similar keys is kept
+            sorted.sort((constant, other) -> constant.getValue().compareTo(other.getValue()));
+
+            var distinct = new ArrayList<Constant<T>>(sorted.size());
+            for (var constant : sorted) {
+                if (distinct.isEmpty() || distinct.get(distinct.size() - 1).getValue().compareTo(constant.getValue()) != 0) {
+                    distinct.add(constant);
+                }
+            }
+
+            this.constants = (Constant<T>[]) distinct.toArray(new Constant<?>[0]);
+            this.values = distinct.stream().map(Constant::getValue).toArray();
+            this.list = Collections.unmodifiableList(Arrays.asList(constants));
+        }
+
+        private Optional<Constant<T>> get(int index) {
+            return index >= 0 && index < constants.length ? Optional.of(constants[index]) : Optional.empty();
+        }
+
+        private int floorIndex(T value) {
+            var index = Arrays.binarySearch(values, Objects.requireNonNull(value));
+            return index >= 0 ? index : -index - 2;
+        }
+
+        private int ceilingIndex(T value) {
+            var index = Arrays.binarySearch(values, Objects.requireNonNull(value));
+            return index >= 0 ? index : -index - 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.ConstantContainer;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link ConstantContainer} with glob pattern keys, such as route or file name patterns
+ * ({@code /api/*}{@code /users}, {@code **.json}), which finds the patterns matching an input.
+ * The patterns are compiled together into one deterministic automaton, so a lookup is a single pass over the input chars
+ * regardless of the number of the patterns, instead of matching every pattern.
+ * <p>
+ * The patterns syntax:
+ * <ul>
+ *     <li>{@code *} - any chars except {@code '/'}, including none</li>
+ *     <li>{@code **} - any chars, including none</li>
+ *     <li>{@code ?} - any char except {@code '/'}</li>
+ *     <li>{@code [abc]}, {@code [a-z]} - any of the chars; {@code [!abc]}, {@code [^abc]} - any char except the chars and {@code '/'}</li>
+ *     <li>{@code \} - escapes the next char, any other char matches itself</li>
+ * </ul>
+ * <p>
+ * {@inheritDoc}
+ *
+ * @author Takhsin Saraira
+ */
+public abstract class AbstractPatternConstantContainer extends AbstractConstantContainer<String> {
+
+    private final Lazy<GlobAutomaton> automaton = Lazy.onDemand(() -> GlobAutomaton.of(getOrdinals().asList()));
+
+    protected AbstractPatternConstantContainer() {
+        this(new ContainerOption[0]);
+    }
+
+    /**
+     * Create the container with the options.
+     *
+     * @param options container options
+     * @throws IllegalArgumentException if a pattern is malformed, thrown on the first access of a {@link ContainerOption#LAZY} container
+     */
+    protected AbstractPatternConstantContainer(ContainerOption... options) {
+        super(options);
+        if (!ContainerOption.LAZY.in(options)) {
+            automaton.get();
+        }
+    }
+
+    /**
+     * Find all the patterns matching the whole input.
+     *
+     * @param input input to match, such as a request path
+     * @return unmodifiable list of the matching pattern constants ordered as the container keys, empty if none matches
+     */
+    public final List<Constant<String>> match(@NonNull CharSequence input) {
+        return automaton.get().match(input);
+    }
+
+    /**
+     * Find the first pattern, in the container keys order, matching the whole input.
+     *
+     * @param input input to match, such as a request path
+     * @return optional of the first matching pattern constant
+     */
+    public final Optional<Constant<String>> matchFirst(@NonNull CharSequence input) {
+        var matches = automaton.get().match(input);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    /**
+     * Check if any pattern matches the whole input.
+     *
+     * @param input input to match, such as a request path
+     * @return true - if any pattern matches the input
+     */
+    public final boolean matches(@NonNull CharSequence input) {
+        return !automaton.get().match(input).isEmpty();
+    }
+
+}
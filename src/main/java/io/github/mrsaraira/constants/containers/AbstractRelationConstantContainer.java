@@ -1,12 +1,19 @@
 package io.github.mrsaraira.constants.containers;
 
+import io.github.mrsaraira.constants.AccessProfile;
 import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.ConstantContainer;
+import io.github.mrsaraira.constants.ConstantOrdinals;
+import io.github.mrsaraira.constants.Constants;
 import io.github.mrsaraira.constants.RelationConstant;
 import io.github.mrsaraira.constants.RelationConstantContainer;
+import io.github.mrsaraira.constants.RelationPostingIndex;
+import io.github.mrsaraira.constants.RelationReferences;
+import io.github.mrsaraira.constants.internal.CompactCollections;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link RelationConstantContainer} that stores constants in unmodifiable ordered Map.
@@ -14,6 +21,7 @@ import java.util.stream.Collectors;
  * The keys ordered as initial constants list.
  * <br><b>Requirement:</b> The <u>constants</u> <b>must be static or static final</b> if passed to
  * {@link AbstractConstantContainer#initialConstants() initialConstants()} method from the container class fields!
+ * The requirement is lifted for the containers created with {@link ContainerOption#LAZY} option, which are materialized on the first access.
  * <br><b>Requirement2:</b> The keys <b>must be unique</b> as if they were defined in enum class.
  * <p>
  * {@inheritDoc}
@@ -26,18 +34,107 @@ import java.util.stream.Collectors;
  */
 public abstract class AbstractRelationConstantContainer<L, R> implements RelationConstantContainer<L, R> {
 
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
     protected final Map<Constant<L>, RelationConstant<L, R>> constantsMap;
+    private final Lazy<RelationPostingIndex<L, R>> postingIndex = Lazy.onDemand(() -> RelationPostingIndex.of(this));
+    private final Lazy<BloomFilter> valuesFilter;
+    private final Lazy<BloomFilter> relationValuesFilter;
+    private final Lazy<Object[]> keysArray = Lazy.onDemand(() -> getAllKeys().toArray());
+    private final Lazy<Object[]> relationsArray = Lazy.onDemand(() -> getAllRelations().toArray());
+    private final Lazy<ConstantOrdinals<L>> ordinals = Lazy.onDemand(() -> ConstantOrdinals.of(this));
+    private final Lazy<AccessProfile<L>> accessProfile;
+    private final Lazy<Map<L, RelationConstant<L, R>>> relationsByKeyValue = Lazy.onDemand(this::createRelationsByKeyValue);
+    private final Lazy<RelationReferences<L, R>> references = Lazy.onDemand(this::createReferences);
 
     protected AbstractRelationConstantContainer() {
-        var constantsMap =
-                initialConstants()
-                        .stream()
-                        .collect(Collectors.toMap(RelationConstant::getKey, Function.identity(),
-                                (constants, constants2) -> {
-                                    throw new IllegalArgumentException("Duplicated keys were found");
-                                },
-                                LinkedHashMap::new));
-        this.constantsMap = Collections.unmodifiableMap(constantsMap);
+        this(new ContainerOption[0]);
+    }
+
+    /**
+     * Create the container with the options.
+     *
+     * @param options container options
+     */
+    protected AbstractRelationConstantContainer(ContainerOption... options) {
+        this.constantsMap = Lazy.map(Lazy.of(this::createConstantsMap, options));
+        this.accessProfile = ContainerOption.PROFILE.in(options) ? Lazy.onDemand(() -> AccessProfile.of(this)) : null;
+        if (ContainerOption.BLOOM_FILTER.in(options)) {
+            this.valuesFilter = Lazy.onDemand(() -> BloomFilter.of(constantsMap.size(), filter ->
+                    constantsMap.keySet().forEach(key -> filter.accept(key.getValue()))));
+            this.relationValuesFilter = Lazy.onDemand(() -> {
+                // sized by all the relation values, the relations may have any number of them
+                var relationValuesCount = 0;
+                for (var relation : constantsMap.values()) {
+                    relationValuesCount += relation.getRelations().length;
+                }
+                return BloomFilter.of(relationValuesCount, filter ->
+                        constantsMap.values().forEach(relation -> {
+                            for (var relationConstant : relation.getRelations()) {
+                                filter.accept(relationConstant.getValue());
+                            }
+                        }));
+            });
+        } else {
+            this.valuesFilter = null;
+            this.relationValuesFilter = null;
+        }
+        if (!ContainerOption.LAZY.in(options)) {
+            materialize(ordinals, valuesFilter, relationValuesFilter);
+            if (referencedContainer() != null) {
+                references.get();
+            }
+        }
+    }
+
+    /**
+     * Build the independent indexes, in parallel in the common fork/join pool for large containers.
+     */
+    private void materialize(Lazy<?>... indexes) {
+        var present = Arrays.stream(indexes).filter(Objects::nonNull).toList();
+        if (constantsMap.size() >= PARALLEL_THRESHOLD) {
+            ForkJoinTask.invokeAll(present.stream().map(index -> ForkJoinTask.adapt(index::get)).toList());
+        } else {
+            present.forEach(Lazy::get);
+        }
+    }
+
+    private Map<Constant<L>, RelationConstant<L, R>> createConstantsMap() {
+        var initialConstants = initialConstants();
+        var relations = initialConstants instanceof RelationConstantsBuilder.Relations<L, R> built
+                ? built.array()
+                : initialConstants.toArray();
+        var keys = new Object[relations.length];
+        if (relations.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(keys, i -> ((RelationConstant<?, ?>) relations[i]).getKey());
+        } else {
+            Arrays.setAll(keys, i -> ((RelationConstant<?, ?>) relations[i]).getKey());
+        }
+        return CompactCollections.mapOfDistinctKeys(keys, relations);
+    }
+
+    private RelationReferences<L, R> createReferences() {
+        var type = referencedContainer();
+        if (type == null) {
+            throw new IllegalStateException("The container relation values do not refer to a container");
+        }
+        ConstantContainer<R> target;
+        if (!type.isEnum()) {
+            target = Constants.getInstance(type);
+        } else {
+            var enumConstants = type.getEnumConstants();
+            // an enum without constants cannot be referred to by any relation value
+            target = enumConstants.length > 0 ? enumConstants[0] : Collections::emptyList;
+        }
+        return RelationReferences.of(this, target);
+    }
+
+    private Map<L, RelationConstant<L, R>> createRelationsByKeyValue() {
+        var relationsByKeyValue = new HashMap<L, RelationConstant<L, R>>(constantsMap.size() * 2);
+        for (var relation : constantsMap.values()) {
+            relationsByKeyValue.putIfAbsent(relation.getValue(), relation);
+        }
+        return relationsByKeyValue;
     }
 
     /**
@@ -47,6 +144,18 @@ public abstract class AbstractRelationConstantContainer<L, R> implements Relatio
      */
     protected abstract List<RelationConstant<L, R>> initialConstants();
 
+    /**
+     * Defines the container which keys the relation values refer to, if any.
+     * The relation values are resolved to the referenced container keys once, with the container construction,
+     * or on the first access of a {@link ContainerOption#LAZY} container, and every relation value must be a key of the referenced container.
+     *
+     * @return referenced container class, or null if the relation values do not refer to a container
+     * @see #getReferences()
+     */
+    protected Class<? extends ConstantContainer<R>> referencedContainer() {
+        return null;
+    }
+
     @Override
     public final Collection<Constant<L>> getAllKeys() {
         return constantsMap.keySet();
@@ -67,4 +176,107 @@ public abstract class AbstractRelationConstantContainer<L, R> implements Relatio
         return RelationConstantContainer.super.getAllRelationsValues();
     }
 
+    /**
+     * Get the relation values resolved to the keys of the {@link #referencedContainer() referenced container}.
+     *
+     * @return references of the container keys to the referenced container keys
+     * @throws IllegalStateException if the container relation values do not refer to a container
+     */
+    public final RelationReferences<L, R> getReferences() {
+        return references.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The relation constants are indexed by the key values on the first call.
+     */
+    @Override
+    public final Optional<RelationConstant<L, R>> getRelationByKeyValue(L value) {
+        return Optional.ofNullable(relationsByKeyValue.get().get(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is sized, immutable, distinct and ordered, and splits evenly for parallel streams.
+     */
+    @Override
+    public final Stream<Constant<L>> stream() {
+        return ContainerStreams.of(keysArray.get(), false);
+    }
+
+    @Override
+    public final Stream<Constant<L>> parallelStream() {
+        return ContainerStreams.of(keysArray.get(), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is sized, immutable, distinct and ordered, and splits evenly for parallel streams.
+     */
+    @Override
+    public final Stream<RelationConstant<L, R>> relationsStream() {
+        return ContainerStreams.of(relationsArray.get(), false);
+    }
+
+    @Override
+    public final Stream<RelationConstant<L, R>> parallelRelationsStream() {
+        return ContainerStreams.of(relationsArray.get(), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The ordinals are assigned with the container construction, or on the first access of a {@link ContainerOption#LAZY} container.
+     */
+    @Override
+    public final ConstantOrdinals<L> getOrdinals() {
+        return ordinals.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The relation constants are indexed by the key values on the first call.
+     */
+    @Override
+    public final Constant<L> getKeyOrNull(L value) {
+        var relation = relationsByKeyValue.get().get(value);
+        return relation == null ? null : relation.getKey();
+    }
+
+    @Override
+    public final boolean mightContainValue(L value) {
+        return valuesFilter == null || valuesFilter.get().mightContain(value);
+    }
+
+    @Override
+    public final boolean mightContainRelationValue(R relationValue) {
+        return relationValuesFilter == null || relationValuesFilter.get().mightContain(relationValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The profile is created on the first access of a container created with {@link ContainerOption#PROFILE} option.
+     */
+    @Override
+    public final AccessProfile<L> getAccessProfile() {
+        return accessProfile == null ? null : accessProfile.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The relation values are checked by the {@link #getRelationPostingIndex() posting index}.
+     */
+    @Override
+    public final boolean containsRelationValue(R relationValue) {
+        return postingIndex.get().containsRelationValue(relationValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The index is created once, on the first call.
+     */
+    @Override
+    public final RelationPostingIndex<L, R> getRelationPostingIndex() {
+        return postingIndex.get();
+    }
+
 }
@@ -0,0 +1,99 @@
+package io.github.mrsaraira.constants.containers;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Immutable blocked Bloom filter of values, where all the bits of a value are in one 64 bytes block (a cache line).
+ * Rejects most of the values not added to the filter with a single memory access, never rejects the added values.
+ * The values are hashed by {@link Object#hashCode()}, so the filter agrees with {@link Object#equals(Object)}.
+ *
+ * @author Takhsin Saraira
+ * @see ContainerOption#BLOOM_FILTER
+ */
+final class BloomFilter {
+
+    private static final int BITS_PER_VALUE = 10;
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_WORDS = BLOCK_BITS / Long.SIZE;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+    private final int blockMask;
+
+    private BloomFilter(int expectedValues) {
+        var blocks = Math.max(1, (expectedValues * BITS_PER_VALUE + BLOCK_BITS - 1) / BLOCK_BITS);
+        blocks = Integer.highestOneBit(blocks) == blocks ? blocks : Integer.highestOneBit(blocks) << 1;
+        this.words = new long[blocks * BLOCK_WORDS];
+        this.blockMask = blocks - 1;
+    }
+
+    /**
+     * Create a filter of the values.
+     *
+     * @param expectedValues number of the values, used to size the filter
+     * @param values         consumer of the values to add, called once while creating the filter
+     * @return filter of the values
+     */
+    static BloomFilter of(int expectedValues, Consumer<Consumer<Object>> values) {
+        var filter = new BloomFilter(expectedValues);
+        values.accept(filter::add);
+        return filter;
+    }
+
+    /**
+     * Create a filter of the values.
+     *
+     * @param values values to add
+     * @return filter of the values
+     */
+    static BloomFilter of(Collection<?> values) {
+        return of(values.size(), consumer -> values.forEach(consumer));
+    }
+
+    /**
+     * Check if the value might have been added to the filter.
+     *
+     * @param value value to check
+     * @return false - if the value was not added for sure, true - if the value might have been added
+     */
+    boolean mightContain(Object value) {
+        var hash = hash(value);
+        var offset = ((int) hash & blockMask) * BLOCK_WORDS;
+        var hash1 = (int) (hash >>> 32);
+        var hash2 = (int) (hash >>> 16) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            var bit = (hash1 + i * hash2) & (BLOCK_BITS - 1);
+            if ((words[offset + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(Object value) {
+        var hash = hash(value);
+        var offset = ((int) hash & blockMask) * BLOCK_WORDS;
+        var hash1 = (int) (hash >>> 32);
+        var hash2 = (int) (hash >>> 16) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            var bit = (hash1 + i * hash2) & (BLOCK_BITS - 1);
+            words[offset + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Murmur3 64-bit finalizer of the value hash code.
+     */
+    private static long hash(Object value) {
+        long hash = Objects.hashCode(value);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.github.mrsaraira.constants.containers;
+
+/**
+ * Opt-in options of the abstract container implementations, passed to the container super constructor.
+ *
+ * @author Takhsin Saraira
+ * @see AbstractConstantContainer
+ * @see AbstractRelationConstantContainer
+ */
+public enum ContainerOption {
+
+    /**
+     * Defer the call of {@code initialConstants()} and the building of the container collections until the first access.
+     * The container is materialized exactly once, even if accessed concurrently.
+     * Any exception thrown while materializing (for example duplicated keys) is thrown on the first access instead of the construction.
+     *
+     * @see LazyInitializationReport
+     */
+    LAZY,
+
+    /**
+     * Build a Bloom filter of the container key values, and of the relation values for relation containers.
+     * The filters let the lookups, such as {@link io.github.mrsaraira.constants.Constants#anyValue(Object, io.github.mrsaraira.constants.ConstantContainer[]) Constants.anyValue},
+     * reject most of the missing values with a couple of bit tests instead of scanning the container.
+     * The filters are built with the container, or on the first access of a {@link #LAZY} container.
+     */
+    BLOOM_FILTER,
+
+    /**
+     * Record the hits of the container constants by the {@link io.github.mrsaraira.constants.Constants} lookups, see {@link io.github.mrsaraira.constants.AccessProfile}.
+     * The profile can re-order the predicate lookups scan to the hottest constants first, while the container keeps the declared order.
+     */
+    PROFILE;
+
+    boolean in(ContainerOption... options) {
+        for (var option : options) {
+            if (option == this) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
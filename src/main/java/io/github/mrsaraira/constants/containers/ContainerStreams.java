@@ -0,0 +1,37 @@
+package io.github.mrsaraira.constants.containers;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams of the containers constants backed by array snapshots, which split evenly in halves for parallel streams
+ * and report the exact sizes of the halves.
+ *
+ * @author Takhsin Saraira
+ */
+@UtilityClass
+class ContainerStreams {
+
+    /**
+     * Characteristics of the containers streams in addition to {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+     * reported by the array spliterators.
+     */
+    static final int CHARACTERISTICS = Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.ORDERED;
+
+    /**
+     * Create a stream of the container constants array, the array must not be modified.
+     *
+     * @param array    container constants
+     * @param parallel true - for a parallel stream
+     * @param <E>      constants type
+     * @return stream of the array elements
+     */
+    static <E> Stream<E> of(Object[] array, boolean parallel) {
+        return StreamSupport.stream(Spliterators.<E>spliterator(array, CHARACTERISTICS), parallel);
+    }
+
+}
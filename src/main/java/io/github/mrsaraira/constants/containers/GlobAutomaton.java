@@ -0,0 +1,303 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.Constant;
+
+import java.util.*;
+
+/**
+ * Immutable deterministic automaton of glob patterns, compiled together, which finds all the patterns matching an input
+ * in a single pass over the input chars.
+ * The patterns syntax is described by {@link AbstractPatternConstantContainer}.
+ * <p>
+ * The chars are split into classes of chars no pattern tells apart, so the transitions table has a column per class
+ * instead of per char.
+ *
+ * @author Takhsin Saraira
+ * @see AbstractPatternConstantContainer
+ */
+final class GlobAutomaton {
+
+    private static final int MAX_STATES = 1 << 16;
+    private static final int DEAD = -1;
+    private static final int ASCII = 128;
+    private static final int[] ALL = {Character.MIN_VALUE, Character.MAX_VALUE};
+    private static final int[] ALL_EXCEPT_SLASH = {Character.MIN_VALUE, '/' - 1, '/' + 1, Character.MAX_VALUE};
+
+    private final int[] classesStarts;
+    private final int[] asciiClasses = new int[ASCII];
+    private final int classesCount;
+    private final int[] transitions;
+    private final List<List<Constant<String>>> accepted;
+
+    private GlobAutomaton(List<Constant<String>> patterns) {
+        // the positions of each pattern are the NFA states, the state after the last token accepts the pattern
+        var tokens = new ArrayList<Token>();
+        var patternsOfStates = new ArrayList<Integer>();
+        var starts = new BitSet();
+        for (int pattern = 0; pattern < patterns.size(); pattern++) {
+            starts.set(tokens.size());
+            for (var token : parse(patterns.get(pattern).getValue())) {
+                tokens.add(token);
+                patternsOfStates.add(pattern);
+            }
+            tokens.add(null);
+            patternsOfStates.add(pattern);
+        }
+
+        var boundaries = new TreeSet<Integer>();
+        boundaries.add((int) Character.MIN_VALUE);
+        for (var token : tokens) {
+            if (token != null) {
+                for (int i = 0; i < token.ranges.length; i += 2) {
+                    boundaries.add(token.ranges[i]);
+                    if (token.ranges[i + 1] < Character.MAX_VALUE) {
+                        boundaries.add(token.ranges[i + 1] + 1);
+                    }
+                }
+            }
+        }
+        this.classesStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+        this.classesCount = classesStarts.length;
+        for (int c = 0; c < ASCII; c++) {
+            asciiClasses[c] = searchClass((char) c);
+        }
+
+        // subset construction of the DFA states, each DFA state is a set of the NFA states
+        var states = new ArrayList<BitSet>();
+        var ids = new HashMap<BitSet, Integer>();
+        var rows = new ArrayList<int[]>();
+        var start = closure(starts, tokens);
+        states.add(start);
+        ids.put(start, 0);
+        for (int id = 0; id < states.size(); id++) {
+            var state = states.get(id);
+            var row = new int[classesCount];
+            for (int charClass = 0; charClass < classesCount; charClass++) {
+                var next = new BitSet();
+                var representative = classesStarts[charClass];
+                for (int nfaState = state.nextSetBit(0); nfaState >= 0; nfaState = state.nextSetBit(nfaState + 1)) {
+                    var token = tokens.get(nfaState);
+                    if (token != null && token.matches(representative)) {
+                        next.set(token.loop ? nfaState : nfaState + 1);
+                    }
+                }
+                if (next.isEmpty()) {
+                    row[charClass] = DEAD;
+                    continue;
+                }
+                next = closure(next, tokens);
+                var nextId = ids.get(next);
+                if (nextId == null) {
+                    if (states.size() == MAX_STATES) {
+                        throw new IllegalArgumentException("Patterns are too complex, more than " + MAX_STATES + " automaton states");
+                    }
+                    nextId = states.size();
+                    states.add(next);
+                    ids.put(next, nextId);
+                }
+                row[charClass] = nextId;
+            }
+            rows.add(row);
+        }
+
+        this.transitions = new int[rows.size() * classesCount];
+        for (int id = 0; id < rows.size(); id++) {
+            System.arraycopy(rows.get(id), 0, transitions, id * classesCount, classesCount);
+        }
+        this.accepted = new ArrayList<>(states.size());
+        for (var state : states) {
+            var matched = new ArrayList<Constant<String>>();
+            for (int nfaState = state.nextSetBit(0); nfaState >= 0; nfaState = state.nextSetBit(nfaState + 1)) {
+                if (tokens.get(nfaState) == null) {
+                    matched.add(patterns.get(patternsOfStates.get(nfaState)));
+                }
+            }
+            accepted.add(matched.isEmpty() ? List.of() : Collections.unmodifiableList(matched));
+        }
+    }
+
+    /**
+     * Compile the patterns.
+     *
+     * @param patterns constants with glob patterns values
+     * @return automaton of the patterns
+     * @throws IllegalArgumentException if a pattern is malformed
+     */
+    static GlobAutomaton of(List<Constant<String>> patterns) {
+        return new GlobAutomaton(patterns);
+    }
+
+    /**
+     * Find the patterns matching the whole input.
+     *
+     * @param input input chars
+     * @return unmodifiable list of the matching patterns ordered as the patterns, empty if none matches
+     */
+    List<Constant<String>> match(CharSequence input) {
+        var state = 0;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            var c = input.charAt(i);
+            state = transitions[state * classesCount + (c < ASCII ? asciiClasses[c] : searchClass(c))];
+            if (state == DEAD) {
+                return List.of();
+            }
+        }
+        return accepted.get(state);
+    }
+
+    private int searchClass(char c) {
+        var index = Arrays.binarySearch(classesStarts, c);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Add the states reachable by skipping the loop tokens, which match no chars as well.
+     */
+    private static BitSet closure(BitSet states, List<Token> tokens) {
+        var closure = (BitSet) states.clone();
+        for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+            for (int next = state; tokens.get(next) != null && tokens.get(next).loop; next++) {
+                closure.set(next + 1);
+            }
+        }
+        return closure;
+    }
+
+    private static List<Token> parse(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+        var tokens = new ArrayList<Token>();
+        for (int i = 0; i < pattern.length(); i++) {
+            var c = pattern.charAt(i);
+            switch (c) {
+                case '*' -> {
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                        tokens.add(new Token(ALL, true));
+                        i++;
+                    } else {
+                        tokens.add(new Token(ALL_EXCEPT_SLASH, true));
+                    }
+                }
+                case '?' -> tokens.add(new Token(ALL_EXCEPT_SLASH, false));
+                case '[' -> i = parseClass(pattern, i, tokens);
+                case '\\' -> {
+                    if (++i == pattern.length()) {
+                        throw new IllegalArgumentException("Pattern '" + pattern + "' ends with an escape");
+                    }
+                    tokens.add(new Token(new int[]{pattern.charAt(i), pattern.charAt(i)}, false));
+                }
+                default -> tokens.add(new Token(new int[]{c, c}, false));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Parse the chars class starting at the index.
+     *
+     * @return index of the class closing bracket
+     */
+    private static int parseClass(String pattern, int start, List<Token> tokens) {
+        var i = start + 1;
+        var negated = i < pattern.length() && (pattern.charAt(i) == '!' || pattern.charAt(i) == '^');
+        if (negated) {
+            i++;
+        }
+        var ranges = new ArrayList<int[]>();
+        for (var first = true; ; first = false) {
+            if (i >= pattern.length()) {
+                throw new IllegalArgumentException("Pattern '" + pattern + "' has an unclosed chars class");
+            }
+            var c = pattern.charAt(i);
+            if (c == ']' && !first) {
+                break;
+            }
+            if (c == '\\' && i + 1 < pattern.length()) {
+                c = pattern.charAt(++i);
+            }
+            var last = c;
+            if (i + 2 < pattern.length() && pattern.charAt(i + 1) == '-' && pattern.charAt(i + 2) != ']') {
+                last = pattern.charAt(i + 2);
+                i += 2;
+                if (last < c) {
+                    throw new IllegalArgumentException("Pattern '" + pattern + "' has a reversed chars range");
+                }
+            }
+            ranges.add(new int[]{c, last});
+            i++;
+        }
+
+        var merged = merge(ranges);
+        tokens.add(new Token(negated ? intersect(complement(merged), ALL_EXCEPT_SLASH) : merged, false));
+        return i;
+    }
+
+    private static int[] merge(List<int[]> ranges) {
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+        var merged = new ArrayList<int[]>();
+        for (var range : ranges) {
+            var previous = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (previous != null && range[0] <= previous[1] + 1) {
+                previous[1] = Math.max(previous[1], range[1]);
+            } else {
+                merged.add(range.clone());
+            }
+        }
+        return merged.stream().flatMapToInt(Arrays::stream).toArray();
+    }
+
+    private static int[] complement(int[] ranges) {
+        var result = new ArrayList<int[]>();
+        var next = (int) Character.MIN_VALUE;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result.add(new int[]{next, ranges[i] - 1});
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= Character.MAX_VALUE) {
+            result.add(new int[]{next, Character.MAX_VALUE});
+        }
+        return result.stream().flatMapToInt(Arrays::stream).toArray();
+    }
+
+    private static int[] intersect(int[] ranges, int[] other) {
+        var result = new ArrayList<int[]>();
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int j = 0; j < other.length; j += 2) {
+                var low = Math.max(ranges[i], other[j]);
+                var high = Math.min(ranges[i + 1], other[j + 1]);
+                if (low <= high) {
+                    result.add(new int[]{low, high});
+                }
+            }
+        }
+        return merge(result);
+    }
+
+    /**
+     * Pattern token matching a char of the sorted inclusive ranges, once or any number of times if a loop.
+     */
+    private static final class Token {
+
+        private final int[] ranges;
+        private final boolean loop;
+
+        private Token(int[] ranges, boolean loop) {
+            this.ranges = ranges;
+            this.loop = loop;
+        }
+
+        boolean matches(int c) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (c >= ranges[i] && c <= ranges[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
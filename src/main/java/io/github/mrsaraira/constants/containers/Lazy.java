@@ -0,0 +1,216 @@
+package io.github.mrsaraira.constants.containers;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Exactly-once, safely published holder of a container state, optionally computed on the first access.
+ * Keeps the counters reported by {@link LazyInitializationReport}.
+ *
+ * @param <V> state type
+ * @author Takhsin Saraira
+ */
+final class Lazy<V> implements Supplier<V> {
+
+    static final LongAdder DEFERRED = new LongAdder();
+    static final LongAdder MATERIALIZED = new LongAdder();
+    static final LongAdder MATERIALIZATION_NANOS = new LongAdder();
+    static final LongAdder MATERIALIZATION_BYTES = new LongAdder();
+
+    private static volatile boolean allocationsSupported = true;
+
+    private final boolean reported;
+    private Supplier<V> initializer;
+    private volatile V value;
+    // guarded by this, detects the initializer accessing its own state, which would recurse as the monitor is reentrant
+    private boolean materializing;
+
+    private Lazy(Supplier<V> initializer, boolean reported) {
+        this.initializer = initializer;
+        this.reported = reported;
+    }
+
+    /**
+     * Create a holder of the state, which is computed immediately unless {@link ContainerOption#LAZY} is present.
+     *
+     * @param initializer state initializer
+     * @param options     container options
+     * @param <V>         state type
+     * @return state holder
+     */
+    static <V> Lazy<V> of(Supplier<V> initializer, ContainerOption... options) {
+        var lazy = new Lazy<>(initializer, true);
+        if (ContainerOption.LAZY.in(options)) {
+            DEFERRED.increment();
+        } else {
+            lazy.value = Objects.requireNonNull(initializer.get());
+            lazy.initializer = null;
+        }
+        return lazy;
+    }
+
+    /**
+     * Create a holder of a derived state (for example an index), which is always computed on the first access
+     * and not reported by {@link LazyInitializationReport}.
+     *
+     * @param initializer state initializer
+     * @param <V>         state type
+     * @return state holder
+     */
+    static <V> Lazy<V> onDemand(Supplier<V> initializer) {
+        return new Lazy<>(initializer, false);
+    }
+
+    @Override
+    public V get() {
+        var result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    if (materializing) {
+                        throw new IllegalStateException("Container state accessed during its own materialization");
+                    }
+                    materializing = true;
+                    try {
+                        result = materialize();
+                    } finally {
+                        materializing = false;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private V materialize() {
+        if (!reported) {
+            var result = Objects.requireNonNull(initializer.get());
+            value = result;
+            initializer = null;
+            return result;
+        }
+
+        var bytes = allocatedBytes();
+        var start = System.nanoTime();
+        var result = Objects.requireNonNull(initializer.get());
+        MATERIALIZATION_NANOS.add(System.nanoTime() - start);
+        if (bytes >= 0) {
+            MATERIALIZATION_BYTES.add(allocatedBytes() - bytes);
+        }
+        MATERIALIZED.increment();
+
+        value = result;
+        initializer = null;
+        return result;
+    }
+
+    static boolean allocationsSupported() {
+        return allocationsSupported && allocatedBytes() >= 0;
+    }
+
+    private static long allocatedBytes() {
+        if (!allocationsSupported) {
+            return -1;
+        }
+        try {
+            var bytes = AllocationCounter.currentThreadAllocatedBytes();
+            allocationsSupported = bytes >= 0;
+            return bytes;
+        } catch (LinkageError e) {
+            // management modules are not resolved
+            allocationsSupported = false;
+            return -1;
+        }
+    }
+
+    /**
+     * Unmodifiable set view of a lazy set, or the set itself if it is already computed.
+     */
+    static <E> Set<E> set(Lazy<? extends Set<E>> lazy) {
+        if (lazy.value != null) {
+            return lazy.value;
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<E> iterator() {
+                return lazy.get().iterator();
+            }
+
+            @Override
+            public int size() {
+                return lazy.get().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return lazy.get().contains(o);
+            }
+        };
+    }
+
+    /**
+     * Unmodifiable map view of a lazy map, or the map itself if it is already computed.
+     */
+    static <K, V> Map<K, V> map(Lazy<? extends Map<K, V>> lazy) {
+        if (lazy.value != null) {
+            return lazy.value;
+        }
+        return new AbstractMap<>() {
+            @Override
+            public Set<Entry<K, V>> entrySet() {
+                return lazy.get().entrySet();
+            }
+
+            @Override
+            public Set<K> keySet() {
+                return lazy.get().keySet();
+            }
+
+            @Override
+            public Collection<V> values() {
+                return lazy.get().values();
+            }
+
+            @Override
+            public V get(Object key) {
+                return lazy.get().get(key);
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return lazy.get().containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return lazy.get().size();
+            }
+        };
+    }
+
+    /**
+     * Measures the thread allocations if the JVM supports it, used to report the heap deferred by lazy containers.
+     * Loaded on demand so the management modules stay optional.
+     */
+    private static final class AllocationCounter {
+
+        private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+        static long currentThreadAllocatedBytes() {
+            return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : -1;
+        }
+
+        private static com.sun.management.ThreadMXBean threadMXBean() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.github.mrsaraira.constants.containers;
+
+import lombok.Value;
+
+/**
+ * Snapshot of the work deferred by the containers created with {@link ContainerOption#LAZY}.
+ * <p>
+ * The cost of a lazy container is not paid during its construction (the startup), but when the container is accessed
+ * for the first time. The containers which were never accessed ({@link #getPendingContainers()}) saved their cost entirely.
+ *
+ * @author Takhsin Saraira
+ * @see ContainerOption#LAZY
+ */
+@Value
+public class LazyInitializationReport {
+
+    /**
+     * Number of the lazy containers constructed.
+     */
+    long deferredContainers;
+
+    /**
+     * Number of the lazy containers materialized on the first access.
+     */
+    long materializedContainers;
+
+    /**
+     * Total time spent materializing lazy containers, which was moved out of the containers construction.
+     */
+    long materializationNanos;
+
+    /**
+     * Total heap allocated while materializing lazy containers, or -1 if the JVM does not support allocation measuring.
+     */
+    long materializationBytes;
+
+    /**
+     * Get the current report.
+     *
+     * @return report of all the lazy containers created so far
+     */
+    public static LazyInitializationReport current() {
+        return new LazyInitializationReport(
+                Lazy.DEFERRED.sum(),
+                Lazy.MATERIALIZED.sum(),
+                Lazy.MATERIALIZATION_NANOS.sum(),
+                Lazy.allocationsSupported() ? Lazy.MATERIALIZATION_BYTES.sum() : -1);
+    }
+
+    /**
+     * Number of lazy containers not accessed yet, whose construction time and heap are saved.
+     *
+     * @return number of not materialized lazy containers
+     */
+    public long getPendingContainers() {
+        return deferredContainers - materializedContainers;
+    }
+
+    /**
+     * Average materialization time of a lazy container, an estimate of the time saved by each pending container.
+     *
+     * @return average materialization time in nanoseconds, or 0 if no container was materialized
+     */
+    public long getAverageMaterializationNanos() {
+        return materializedContainers == 0 ? 0 : materializationNanos / materializedContainers;
+    }
+
+    /**
+     * Average heap allocated while materializing a lazy container, an estimate of the heap saved by each pending container.
+     *
+     * @return average materialization heap in bytes, 0 if no container was materialized or -1 if not supported
+     */
+    public long getAverageMaterializationBytes() {
+        if (materializationBytes < 0) {
+            return -1;
+        }
+        return materializedContainers == 0 ? 0 : materializationBytes / materializedContainers;
+    }
+
+}
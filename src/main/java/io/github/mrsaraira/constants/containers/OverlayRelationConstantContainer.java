@@ -0,0 +1,328 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.ConstantOrdinals;
+import io.github.mrsaraira.constants.RelationConstant;
+import io.github.mrsaraira.constants.RelationConstantContainer;
+import io.github.mrsaraira.constants.RelationPostingIndex;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Relation constant container layered over a shared base container, which stores only its own relation constants (the delta).
+ * A delta relation constant overrides the base relation constant with the same key value, or adds a new key.
+ * The base container is referenced and never copied, so many overlays of one base (for example per tenant) take memory
+ * proportional to their deltas.
+ * <p>
+ * The lookups by key value and by relation value, and the relation queries, check the delta first and delegate to the base
+ * indexes, skipping the overridden keys.
+ * The keys are ordered as the base keys, with the overridden relation constants in place, followed by the added keys.
+ * The ordinals and the posting index of the overlay itself cover the base keys too, they are created on the first call.
+ *
+ * @param <L> constant keys values type
+ * @param <R> relation constants values type
+ * @author Takhsin Saraira
+ * @see RelationConstantContainer
+ */
+public final class OverlayRelationConstantContainer<L, R> implements RelationConstantContainer<L, R> {
+
+    private final RelationConstantContainer<L, R> base;
+    private final Map<L, RelationConstant<L, R>> delta;
+    private final List<RelationConstant<L, R>> additions;
+    private final Collection<RelationConstant<L, R>> relations = new Relations();
+    private final Collection<Constant<L>> keys = new Keys();
+    private final Lazy<ConstantOrdinals<L>> ordinals = Lazy.onDemand(() -> ConstantOrdinals.of(this));
+    private final Lazy<RelationPostingIndex<L, R>> postingIndex = Lazy.onDemand(() -> RelationPostingIndex.of(this));
+
+    private OverlayRelationConstantContainer(RelationConstantContainer<L, R> base, List<RelationConstant<L, R>> delta) {
+        this.base = base;
+        var deltaMap = new HashMap<L, RelationConstant<L, R>>();
+        var additions = new ArrayList<RelationConstant<L, R>>();
+        for (var relation : delta) {
+            if (deltaMap.putIfAbsent(relation.getValue(), relation) != null) {
+                throw new IllegalArgumentException("Duplicated keys were found");
+            }
+            if (base.getRelationByKeyValue(relation.getValue()).isEmpty()) {
+                additions.add(relation);
+            }
+        }
+        this.delta = deltaMap;
+        this.additions = List.copyOf(additions);
+    }
+
+    /**
+     * Create an overlay of the base container with the delta relation constants.
+     *
+     * @param base  base container
+     * @param delta relation constants overriding or adding to the base container ones
+     * @param <L>   constant keys values type
+     * @param <R>   relation constants values type
+     * @return overlay container
+     * @throws IllegalArgumentException if the delta has duplicated keys
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <L, R> OverlayRelationConstantContainer<L, R> of(@NonNull RelationConstantContainer<L, R> base, @NonNull RelationConstant<L, R>... delta) {
+        return of(base, List.of(delta));
+    }
+
+    /**
+     * Create an overlay of the base container with the delta relation constants.
+     *
+     * @param base  base container
+     * @param delta relation constants overriding or adding to the base container ones
+     * @param <L>   constant keys values type
+     * @param <R>   relation constants values type
+     * @return overlay container
+     * @throws IllegalArgumentException if the delta has duplicated keys
+     */
+    public static <L, R> OverlayRelationConstantContainer<L, R> of(@NonNull RelationConstantContainer<L, R> base, @NonNull List<RelationConstant<L, R>> delta) {
+        return new OverlayRelationConstantContainer<>(base, delta);
+    }
+
+    /**
+     * Get the base container.
+     *
+     * @return base container
+     */
+    public RelationConstantContainer<L, R> getBase() {
+        return base;
+    }
+
+    /**
+     * Get the relation constants of the overlay which override or add to the base container ones.
+     *
+     * @return unmodifiable collection of the delta relation constants
+     */
+    public Collection<RelationConstant<L, R>> getDelta() {
+        return Collections.unmodifiableCollection(delta.values());
+    }
+
+    @Override
+    public Collection<Constant<L>> getAllKeys() {
+        return keys;
+    }
+
+    @Override
+    public Collection<RelationConstant<L, R>> getAllRelations() {
+        return relations;
+    }
+
+    @Override
+    public Optional<RelationConstant<L, R>> getRelationByKeyValue(L value) {
+        var relation = delta.get(value);
+        return relation != null ? Optional.of(relation) : base.getRelationByKeyValue(value);
+    }
+
+    @Override
+    public Constant<L> getKeyOrNull(L value) {
+        var relation = delta.get(value);
+        return relation != null ? relation.getKey() : base.getKeyOrNull(value);
+    }
+
+    @Override
+    public boolean containsRelationValue(R relationValue) {
+        for (var relation : delta.values()) {
+            if (relation.hasRelationValue(relationValue)) {
+                return true;
+            }
+        }
+        if (!base.containsRelationValue(relationValue)) {
+            return false;
+        }
+        if (delta.isEmpty()) {
+            return true;
+        }
+        for (var key : base.keysWithAny(List.of(relationValue))) {
+            if (!delta.containsKey(key.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Constant<L>> keysWith(@NonNull Collection<R> relationValues, @NonNull Collection<R> excludedRelationValues) {
+        return query(base.keysWith(relationValues, excludedRelationValues),
+                relation -> hasAll(relation, relationValues) && !hasAny(relation, excludedRelationValues));
+    }
+
+    @Override
+    public List<Constant<L>> keysWithAll(@NonNull Collection<R> relationValues) {
+        return query(base.keysWithAll(relationValues), relation -> hasAll(relation, relationValues));
+    }
+
+    @Override
+    public List<Constant<L>> keysWithAny(@NonNull Collection<R> relationValues) {
+        return query(base.keysWithAny(relationValues), relation -> hasAny(relation, relationValues));
+    }
+
+    @Override
+    public List<Constant<L>> keysWithNone(@NonNull Collection<R> relationValues) {
+        return query(base.keysWithNone(relationValues), relation -> !hasAny(relation, relationValues));
+    }
+
+    @Override
+    public ConstantOrdinals<L> getOrdinals() {
+        return ordinals.get();
+    }
+
+    @Override
+    public RelationPostingIndex<L, R> getRelationPostingIndex() {
+        return postingIndex.get();
+    }
+
+    @Override
+    public boolean mightContainValue(L value) {
+        return delta.containsKey(value) || base.mightContainValue(value);
+    }
+
+    @Override
+    public boolean mightContainRelationValue(R relationValue) {
+        for (var relation : delta.values()) {
+            if (relation.hasRelationValue(relationValue)) {
+                return true;
+            }
+        }
+        return base.mightContainRelationValue(relationValue);
+    }
+
+    /**
+     * Merge the base keys matching a query with the delta relation constants matching it.
+     * The overridden base keys are replaced by the matching overrides in the base order, the matching additions follow.
+     */
+    private List<Constant<L>> query(List<Constant<L>> baseKeys, Predicate<RelationConstant<L, R>> condition) {
+        if (delta.isEmpty()) {
+            return baseKeys;
+        }
+        var baseOrdinals = base.getOrdinals();
+        var ordinals = new int[baseKeys.size() + delta.size()];
+        var count = 0;
+        for (var key : baseKeys) {
+            if (!delta.containsKey(key.getValue())) {
+                ordinals[count++] = baseOrdinals.ordinalOf(key);
+            }
+        }
+        for (var relation : delta.values()) {
+            var baseKey = base.getKeyOrNull(relation.getValue());
+            if (baseKey != null && condition.test(relation)) {
+                ordinals[count++] = baseOrdinals.ordinalOf(baseKey);
+            }
+        }
+        Arrays.sort(ordinals, 0, count);
+
+        var keys = new ArrayList<Constant<L>>(count + additions.size());
+        for (int i = 0; i < count; i++) {
+            var baseKey = baseOrdinals.get(ordinals[i]);
+            var override = delta.get(baseKey.getValue());
+            keys.add(override != null ? override.getKey() : baseKey);
+        }
+        for (var relation : additions) {
+            if (condition.test(relation)) {
+                keys.add(relation.getKey());
+            }
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    private static <R> boolean hasAll(RelationConstant<?, R> relation, Collection<R> relationValues) {
+        for (var relationValue : relationValues) {
+            if (!relation.hasRelationValue(relationValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <R> boolean hasAny(RelationConstant<?, R> relation, Collection<R> relationValues) {
+        for (var relationValue : relationValues) {
+            if (relation.hasRelationValue(relationValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The base relation constants with the overrides in place, followed by the additions.
+     */
+    private final class Relations extends AbstractCollection<RelationConstant<L, R>> {
+
+        @Override
+        public Iterator<RelationConstant<L, R>> iterator() {
+            return new Iterator<>() {
+
+                private final Iterator<RelationConstant<L, R>> baseRelations = base.getAllRelations().iterator();
+                private final Iterator<RelationConstant<L, R>> addedRelations = additions.iterator();
+
+                @Override
+                public boolean hasNext() {
+                    return baseRelations.hasNext() || addedRelations.hasNext();
+                }
+
+                @Override
+                public RelationConstant<L, R> next() {
+                    if (baseRelations.hasNext()) {
+                        var relation = baseRelations.next();
+                        return delta.getOrDefault(relation.getValue(), relation);
+                    }
+                    return addedRelations.next();
+                }
+
+            };
+        }
+
+        @Override
+        public int size() {
+            return base.getAllRelations().size() + additions.size();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof RelationConstant<?, ?> relation
+                    && getRelationByKeyValue(keyValue(relation)).filter(relation::equals).isPresent();
+        }
+
+    }
+
+    private final class Keys extends AbstractCollection<Constant<L>> {
+
+        @Override
+        public Iterator<Constant<L>> iterator() {
+            var iterator = relations.iterator();
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Constant<L> next() {
+                    return iterator.next().getKey();
+                }
+
+            };
+        }
+
+        @Override
+        public int size() {
+            return relations.size();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof Constant<?> key
+                    && getRelationByKeyValue(keyValue(key)).filter(relation -> relation.getKey().equals(key)).isPresent();
+        }
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L> L keyValue(Constant<?> constant) {
+        return (L) constant.getValue();
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.github.mrsaraira.constants.containers;
+
+import io.github.mrsaraira.constants.RelationConstant;
+import lombok.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Builder of the initial relation constants of large, for example generated, {@link AbstractRelationConstantContainer relation containers}.
+ * The relations are appended to an array presized by the expected size, from single constants, streams or iterators,
+ * without collecting them to an intermediate list first. The built list is immutable and is taken by the container without copying.
+ * <p>
+ * The containers check the keys for duplicates and build their indexes in parallel for large initial constants,
+ * whether or not they are built by the builder.
+ * <pre>{@code
+ * protected List<RelationConstant<String, String>> initialConstants() {
+ *     return RelationConstantsBuilder.<String, String>withExpectedSize(2_000_000)
+ *             .addAll(generatedRelations())
+ *             .build();
+ * }
+ * }</pre>
+ *
+ * @param <L> constant keys values type
+ * @param <R> relation constants values type
+ * @author Takhsin Saraira
+ * @see AbstractRelationConstantContainer#initialConstants()
+ */
+public final class RelationConstantsBuilder<L, R> {
+
+    private Object[] relations;
+    private int size;
+
+    private RelationConstantsBuilder(int expectedSize) {
+        this.relations = new Object[expectedSize];
+    }
+
+    /**
+     * Create a builder presized for the number of the relation constants.
+     *
+     * @param expectedSize expected number of the relation constants, a hint which is exceeded by growing
+     * @param <L>          constant keys values type
+     * @param <R>          relation constants values type
+     * @return builder
+     */
+    public static <L, R> RelationConstantsBuilder<L, R> withExpectedSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        return new RelationConstantsBuilder<>(expectedSize);
+    }
+
+    /**
+     * Append the relation constant.
+     *
+     * @param relation relation constant
+     * @return this builder
+     */
+    public RelationConstantsBuilder<L, R> add(@NonNull RelationConstant<L, R> relation) {
+        if (relations == null) {
+            throw new IllegalStateException("The relation constants were already built");
+        }
+        if (size == relations.length) {
+            relations = Arrays.copyOf(relations, Math.max(16, size + (size >> 1)));
+        }
+        relations[size++] = relation;
+        return this;
+    }
+
+    /**
+     * Append the relation constants of the stream, in the stream encounter order.
+     *
+     * @param relations stream of relation constants
+     * @return this builder
+     */
+    public RelationConstantsBuilder<L, R> addAll(@NonNull Stream<? extends RelationConstant<L, R>> relations) {
+        relations.sequential().forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Append the relation constants of the iterator.
+     *
+     * @param relations iterator of relation constants
+     * @return this builder
+     */
+    public RelationConstantsBuilder<L, R> addAll(@NonNull Iterator<? extends RelationConstant<L, R>> relations) {
+        relations.forEachRemaining(this::add);
+        return this;
+    }
+
+    /**
+     * Build the list of the relation constants. The builder cannot be used after the call.
+     *
+     * @return immutable list of the relation constants ordered as appended
+     */
+    public List<RelationConstant<L, R>> build() {
+        if (relations == null) {
+            throw new IllegalStateException("The relation constants were already built");
+        }
+        var built = new Relations<L, R>(size == relations.length ? relations : Arrays.copyOf(relations, size));
+        relations = null;
+        return built;
+    }
+
+    /**
+     * Immutable list over the built array, which the container shares instead of copying it.
+     */
+    static final class Relations<L, R> extends AbstractList<RelationConstant<L, R>> implements RandomAccess {
+
+        private final Object[] relations;
+
+        private Relations(Object[] relations) {
+            this.relations = relations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RelationConstant<L, R> get(int index) {
+            Objects.checkIndex(index, relations.length);
+            return (RelationConstant<L, R>) relations[index];
+        }
+
+        @Override
+        public int size() {
+            return relations.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return relations.clone();
+        }
+
+        Object[] array() {
+            return relations;
+        }
+
+    }
+
+}
@@ -0,0 +1,397 @@
+package io.github.mrsaraira.constants.internal;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable sets and maps tuned for the small sizes of most containers, which preserve the insertion order.
+ * Up to {@value #INLINE_SIZE} elements are kept in fields and compared directly, larger collections keep the elements
+ * in an insertion ordered array with an open addressing table of the elements indexes.
+ * Null elements, keys and values are permitted. The collections reject modifications.
+ * <p>
+ * Not exported from the module, the library uses the collections for the keys, values and relations it returns.
+ *
+ * @author Takhsin Saraira
+ */
+@UtilityClass
+public class CompactCollections {
+
+    static final int INLINE_SIZE = 4;
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * Create an immutable set of the distinct elements, ordered as the elements. The first of the equal elements is kept.
+     *
+     * @param elements set elements
+     * @param <E>      elements type
+     * @return immutable set of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOfSet(@NonNull Collection<? extends E> elements) {
+        if (elements instanceof InlineSet<?> || elements instanceof HashedSet<?>) {
+            return (Set<E>) elements;
+        }
+        var array = elements.toArray();
+        return array.length <= INLINE_SIZE ? new InlineSet<>(distinct(array)) : new HashedSet<>(array, null, array);
+    }
+
+    /**
+     * Create an immutable map of the map entries, ordered as the map entries.
+     *
+     * @param map map to copy
+     * @param <K> keys type
+     * @param <V> values type
+     * @return immutable map
+     */
+    public static <K, V> Map<K, V> copyOfMap(@NonNull Map<? extends K, ? extends V> map) {
+        var keys = new Object[map.size()];
+        var values = new Object[map.size()];
+        var index = 0;
+        for (var entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = entry.getValue();
+        }
+        return new CompactMap<>(new HashedSet<>(keys, null, null), values);
+    }
+
+    /**
+     * Create an immutable map of the keys to the values at the same indexes, ordered as the keys.
+     * The keys hashes of large arrays are computed in parallel, in the common fork/join pool.
+     * The arrays are owned by the map after the call.
+     *
+     * @param keys   map keys
+     * @param values map values, of the keys length
+     * @param <K>    keys type
+     * @param <V>    values type
+     * @return immutable map
+     * @throws IllegalArgumentException if the keys have duplicates
+     */
+    public static <K, V> Map<K, V> mapOfDistinctKeys(@NonNull Object[] keys, @NonNull Object[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values have different lengths");
+        }
+        var hashes = new int[keys.length];
+        if (keys.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(hashes, i -> Objects.hashCode(keys[i]));
+        } else {
+            Arrays.setAll(hashes, i -> Objects.hashCode(keys[i]));
+        }
+        var keySet = new HashedSet<K>(keys, hashes, new Object[keys.length]);
+        if (keySet.size() != keys.length) {
+            throw new IllegalArgumentException("Duplicated keys were found");
+        }
+        return new CompactMap<>(keySet, values);
+    }
+
+    /**
+     * Collector to an immutable set ordered as the stream elements.
+     *
+     * @param <E> elements type
+     * @return set collector
+     * @see #copyOfSet(Collection)
+     */
+    public static <E> Collector<E, ?, Set<E>> toSet() {
+        return Collectors.collectingAndThen(Collectors.toList(), CompactCollections::copyOfSet);
+    }
+
+    private static Object[] distinct(Object[] elements) {
+        var size = 0;
+        for (var element : elements) {
+            if (indexOf(elements, size, element) < 0) {
+                elements[size++] = element;
+            }
+        }
+        return size == elements.length ? elements : Arrays.copyOf(elements, size);
+    }
+
+    private static int indexOf(Object[] elements, int size, Object element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int spread(int hash) {
+        var mixed = hash * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+
+    /**
+     * Set rejecting the modifications even if they would not change the set.
+     */
+    private abstract static class ImmutableSet<E> extends AbstractSet<E> {
+
+        @Override
+        public boolean add(E element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object element) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> elements) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Set of up to {@value #INLINE_SIZE} elements kept in fields.
+     */
+    private static final class InlineSet<E> extends ImmutableSet<E> {
+
+        private final int size;
+        private final E element0;
+        private final E element1;
+        private final E element2;
+        private final E element3;
+        private final int hash0;
+        private final int hash1;
+        private final int hash2;
+        private final int hash3;
+
+        @SuppressWarnings("unchecked")
+        private InlineSet(Object[] elements) {
+            this.size = elements.length;
+            this.element0 = size > 0 ? (E) elements[0] : null;
+            this.element1 = size > 1 ? (E) elements[1] : null;
+            this.element2 = size > 2 ? (E) elements[2] : null;
+            this.element3 = size > 3 ? (E) elements[3] : null;
+            this.hash0 = Objects.hashCode(element0);
+            this.hash1 = Objects.hashCode(element1);
+            this.hash2 = Objects.hashCode(element2);
+            this.hash3 = Objects.hashCode(element3);
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            var hash = Objects.hashCode(element);
+            return size > 0 && hash == hash0 && Objects.equals(element0, element)
+                    || size > 1 && hash == hash1 && Objects.equals(element1, element)
+                    || size > 2 && hash == hash2 && Objects.equals(element2, element)
+                    || size > 3 && hash == hash3 && Objects.equals(element3, element);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public E next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return switch (index++) {
+                        case 0 -> element0;
+                        case 1 -> element1;
+                        case 2 -> element2;
+                        default -> element3;
+                    };
+                }
+
+            };
+        }
+
+    }
+
+    /**
+     * Set with the elements in an insertion ordered array and an open addressing table of the elements indexes and hashes.
+     */
+    private static final class HashedSet<E> extends ImmutableSet<E> {
+
+        private final Object[] elements;
+        private final int[] slots;
+        private final int[] hashes;
+        private final int mask;
+
+        /**
+         * @param elements       set elements
+         * @param elementsHashes precomputed hashes of the elements, or null
+         * @param buffer         array to collect the distinct elements to, may be the elements array itself,
+         *                       or null if the elements are known to be distinct
+         */
+        private HashedSet(Object[] elements, int[] elementsHashes, Object[] buffer) {
+            var capacity = Integer.highestOneBit(Math.max(2, elements.length * 2 - 1)) << 1;
+            this.slots = new int[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+
+            var size = 0;
+            for (int i = 0; i < elements.length; i++) {
+                var element = elements[i];
+                var hash = elementsHashes == null ? Objects.hashCode(element) : elementsHashes[i];
+                var slot = spread(hash) & mask;
+                var duplicate = false;
+                for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+                    if (buffer != null && hashes[slot] == hash && Objects.equals(buffer[slots[slot] - 1], element)) {
+                        duplicate = true;
+                        break;
+                    }
+                }
+                if (!duplicate) {
+                    if (buffer != null) {
+                        buffer[size] = element;
+                    }
+                    slots[slot] = ++size;
+                    hashes[slot] = hash;
+                }
+            }
+            this.elements = size == elements.length ? elements : Arrays.copyOf(buffer, size);
+        }
+
+        private int indexOf(Object element) {
+            var hash = Objects.hashCode(element);
+            for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && Objects.equals(elements[slots[slot] - 1], element)) {
+                    return slots[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<E> iterator() {
+            return (Iterator<E>) Arrays.asList(elements).iterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return elements.clone();
+        }
+
+    }
+
+    /**
+     * Map with the keys in a hashed set and the values in an array of the keys indexes.
+     */
+    private static final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+        private final HashedSet<K> keys;
+        private final Object[] values;
+
+        private CompactMap(HashedSet<K> keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            var index = keys.indexOf(key);
+            return index >= 0 ? (V) values[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return keys.indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return keys;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Collection<V> values() {
+            return Collections.unmodifiableList((List<V>) Arrays.asList(values));
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new Iterator<>() {
+
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < values.length;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Entry<K, V> next() {
+                            if (index >= values.length) {
+                                throw new NoSuchElementException();
+                            }
+                            var entry = new SimpleImmutableEntry<>((K) keys.elements[index], (V) values[index]);
+                            index++;
+                            return entry;
+                        }
+
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.mrsaraira.constants.vector;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.RelationConstant;
+import io.github.mrsaraira.constants.RelationConstantContainer;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Immutable int relation values of relation constants stored in a contiguous primitive array.
+ * The lookups are linear scans, accelerated with the Vector API if the {@code jdk.incubator.vector} module is resolved,
+ * which for small and medium containers are faster than scanning the relation constants.
+ * <br><b>Note</b>: The relation values must not be null.
+ *
+ * @param <L> relation constants key value type
+ * @author Takhsin Saraira
+ * @see IntKeys
+ */
+public final class IntRelations<L> {
+
+    private final int[] values;
+    private final int[] owners;
+    private final RelationConstant<L, Integer>[] relations;
+
+    @SuppressWarnings("unchecked")
+    private IntRelations(Collection<RelationConstant<L, Integer>> relations) {
+        this.relations = (RelationConstant<L, Integer>[]) relations.toArray(new RelationConstant<?, ?>[0]);
+        var relationsValues = (Constant<Integer>[][]) new Constant<?>[this.relations.length][];
+        var count = 0;
+        for (int i = 0; i < this.relations.length; i++) {
+            relationsValues[i] = this.relations[i].getRelations();
+            count += relationsValues[i].length;
+        }
+
+        this.values = new int[count];
+        this.owners = new int[count];
+        var index = 0;
+        for (int i = 0; i < relationsValues.length; i++) {
+            for (Constant<Integer> relation : relationsValues[i]) {
+                values[index] = IntKeys.requireValue(relation);
+                owners[index++] = i;
+            }
+        }
+    }
+
+    /**
+     * Create int relation values of the container relation constants.
+     *
+     * @param container relation container with int relation values
+     * @param <L>       relation constants key value type
+     * @return int relation values of the container
+     */
+    public static <L> IntRelations<L> of(@NonNull RelationConstantContainer<L, Integer> container) {
+        return new IntRelations<>(container.getAllRelations());
+    }
+
+    /**
+     * Create int relation values of the relation constants.
+     *
+     * @param relations relation constants with int relation values
+     * @param <L>       relation constants key value type
+     * @return int relation values of the relation constants
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <L> IntRelations<L> of(@NonNull RelationConstant<L, Integer>... relations) {
+        return new IntRelations<>(Arrays.asList(relations));
+    }
+
+    /**
+     * Check if any relation constant has a relation value equal to value parameter.
+     *
+     * @param relationValue value to match
+     * @return true - if any constant has a relation value equal to value parameter
+     */
+    public boolean anyRelationValue(int relationValue) {
+        return VectorScans.indexOf(values, relationValue) >= 0;
+    }
+
+    /**
+     * Returns first relation constant with a relation value equal to value parameter.
+     *
+     * @param relationValue relation value to match
+     * @return optional relation constant having a relation value equal to value
+     */
+    public Optional<RelationConstant<L, Integer>> match(int relationValue) {
+        var index = VectorScans.indexOf(values, relationValue);
+        return index >= 0 ? Optional.of(relations[owners[index]]) : Optional.empty();
+    }
+
+    /**
+     * Get number of the relation values.
+     *
+     * @return number of the relation values of all the relation constants
+     */
+    public int size() {
+        return values.length;
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.mrsaraira.constants.vector;
+
+import io.github.mrsaraira.constants.Constant;
+import io.github.mrsaraira.constants.ConstantContainer;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Immutable long keys of constants stored in a contiguous primitive array.
+ * The lookups are linear scans, accelerated with the Vector API if the {@code jdk.incubator.vector} module is resolved,
+ * which for small and medium containers are faster than hash lookups of boxed keys.
+ * <br><b>Note</b>: The keys must not be null.
+ *
+ * @author Takhsin Saraira
+ * @see LongRelations
+ */
+public final class LongKeys {
+
+    private final long[] values;
+    private final Constant<Long>[] constants;
+
+    @SuppressWarnings("unchecked")
+    private LongKeys(Collection<Constant<Long>> constants) {
+        this.constants = (Constant<Long>[]) constants.toArray(new Constant<?>[0]);
+        this.values = new long[this.constants.length];
+        for (int i = 0; i < this.constants.length; i++) {
+            values[i] = requireValue(this.constants[i]);
+        }
+    }
+
+    /**
+     * Create long keys of the container constants.
+     *
+     * @param container container with long keys
+     * @return long keys of the container
+     */
+    public static LongKeys of(@NonNull ConstantContainer<Long> container) {
+        return new LongKeys(container.getAllKeys());
+    }
+
+    /**
+     * Create long keys of the constants.
+     *
+     * @param constants constants with long values
+     * @return long keys of the constants
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static LongKeys of(@NonNull Constant<Long>... constants) {
+        return new LongKeys(Arrays.asList(constants));
+    }
+
+    /**
+     * Returns index of the first constant with a value equal to value parameter.
+     *
+     * @param value value to match
+     * @return index of the constant or -1 if not found
+     */
+    public int indexOf(long value) {
+        return VectorScans.indexOf(values, value);
+    }
+
+    /**
+     * Check if any constant value matches the passed value.
+     *
+     * @param value value to match
+     * @return true - if any constant value equals value parameter
+     */
+    public boolean anyValue(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns first constant with a value equal to value parameter.
+     *
+     * @param value value to match
+     * @return optional constant with constant value equal to value
+     */
+    public Optional<Constant<Long>> match(long value) {
+        var index = indexOf(value);
+        return index >= 0 ? Optional.of(constants[index]) : Optional.empty();
+    }
+
+    /**
+     * Get number of the keys.
+     *
+     * @return number of the keys
+     */
+    public int size() {
+        return values.length;
+    }
+
+    static long requireValue(Constant<Long> constant) {
+        var value = constant.getValue();
+        if (value == null) {
+            throw new IllegalArgumentException("Primitive keys cannot be null");
+        }
+        return value;
+    }
+
+}
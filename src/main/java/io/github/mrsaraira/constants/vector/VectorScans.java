@@ -0,0 +1,131 @@
+package io.github.mrsaraira.constants.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+
+/**
+ * Linear scans of primitive arrays, accelerated with the Vector API if the {@code jdk.incubator.vector} module is resolved,
+ * otherwise falls back to scalar scans.
+ * <br>Run the JVM with {@code --add-modules jdk.incubator.vector} to enable the vector scans,
+ * the system property {@code io.github.mrsaraira.constants.vector.disabled=true} forces the scalar scans.
+ *
+ * @author Takhsin Saraira
+ */
+final class VectorScans {
+
+    static final boolean VECTORS_AVAILABLE = vectorsAvailable();
+
+    private VectorScans() {
+    }
+
+    /**
+     * Returns index of the first element equal to value parameter.
+     *
+     * @param values values to scan
+     * @param value  value to match
+     * @return index of the value or -1 if not found
+     */
+    static int indexOf(int[] values, int value) {
+        var from = VECTORS_AVAILABLE ? IntScans.vectorIndexOf(values, value) : 0;
+        if (from < 0) {
+            return -(from + 1);
+        }
+        for (int i = from; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns index of the first element equal to value parameter.
+     *
+     * @param values values to scan
+     * @param value  value to match
+     * @return index of the value or -1 if not found
+     */
+    static int indexOf(long[] values, long value) {
+        var from = VECTORS_AVAILABLE ? LongScans.vectorIndexOf(values, value) : 0;
+        if (from < 0) {
+            return -(from + 1);
+        }
+        for (int i = from; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean vectorsAvailable() {
+        if (Boolean.getBoolean("io.github.mrsaraira.constants.vector.disabled")) {
+            return false;
+        }
+        try {
+            return IntScans.available() && LongScans.available();
+        } catch (LinkageError e) {
+            // jdk.incubator.vector module is not resolved
+            return false;
+        }
+    }
+
+    /**
+     * Vector scans of int arrays, loaded only if the Vector API is available.
+     */
+    private static final class IntScans {
+
+        private static boolean available() {
+            return IntVector.SPECIES_PREFERRED.length() > 1;
+        }
+
+        /**
+         * Scans the vector-sized part of the array.
+         *
+         * @return -(index + 1) of the found value, or the index of the not scanned tail
+         */
+        private static int vectorIndexOf(int[] values, int value) {
+            var species = IntVector.SPECIES_PREFERRED;
+            var bound = species.loopBound(values.length);
+            int i = 0;
+            for (; i < bound; i += species.length()) {
+                var mask = IntVector.fromArray(species, values, i).eq(value);
+                if (mask.anyTrue()) {
+                    return -(i + mask.firstTrue() + 1);
+                }
+            }
+            return i;
+        }
+
+    }
+
+    /**
+     * Vector scans of long arrays, loaded only if the Vector API is available.
+     */
+    private static final class LongScans {
+
+        private static boolean available() {
+            return LongVector.SPECIES_PREFERRED.length() > 1;
+        }
+
+        /**
+         * Scans the vector-sized part of the array.
+         *
+         * @return -(index + 1) of the found value, or the index of the not scanned tail
+         */
+        private static int vectorIndexOf(long[] values, long value) {
+            var species = LongVector.SPECIES_PREFERRED;
+            var bound = species.loopBound(values.length);
+            int i = 0;
+            for (; i < bound; i += species.length()) {
+                var mask = LongVector.fromArray(species, values, i).eq(value);
+                if (mask.anyTrue()) {
+                    return -(i + mask.firstTrue() + 1);
+                }
+            }
+            return i;
+        }
+
+    }
+
+}
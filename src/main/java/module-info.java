@@ -1,6 +1,9 @@
 module io.github.mrsaraira.constants {
     exports io.github.mrsaraira.constants;
     exports io.github.mrsaraira.constants.containers;
+    exports io.github.mrsaraira.constants.vector;
 
     requires static lombok;
+    requires static jdk.management;
+    requires static jdk.incubator.vector;
 }
@@ -0,0 +1,171 @@
+package io.github.mrsaraira.constants;
+
+import io.github.mrsaraira.constants.containers.AbstractCompositeKeyConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractRelationConstantContainer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ConstantsAllocationTest {
+
+    private static final int ITERATIONS = 200_000;
+    // the measuring itself may allocate a few objects, far less than a single object per iteration
+    private static final long ALLOWED_BYTES = 4096;
+
+    private static final Constant<String> ONE = Constants.of("One");
+    private static final Constant<String> TWO = Constants.of("Two");
+    private static final Constant<String> THREE = Constants.of("Three");
+    private static final RelationConstant<String, String> ADMIN = Constants.of("Admin", "CREATE", "READ", "DELETE");
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @RequiredArgsConstructor
+    private enum Status implements EnumConstantContainer<Integer, Status> {
+        ACTIVE(Constants.of(1)),
+        BLOCKED(Constants.of(2)),
+        DELETED(Constants.of(3));
+
+        @Getter
+        private final Constant<Integer> constant;
+    }
+
+    @RequiredArgsConstructor
+    private enum Role implements EnumRelationConstantContainer<String, String, Role> {
+        ADMIN(Constants.of("Admin", "CREATE", "READ", "DELETE")),
+        VIEWER(Constants.of("Viewer", "READ"));
+
+        @Getter
+        private final RelationConstant<String, String> constant;
+    }
+
+    private static class NumbersContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(ONE, TWO, THREE);
+        }
+
+    }
+
+    private static class RolesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(ADMIN, Constants.of("Viewer", "READ"));
+        }
+
+    }
+
+    private static class RoutesContainer extends AbstractCompositeKeyConstantContainer {
+
+        @Override
+        protected List<Constant<CompositeKey>> initialConstants() {
+            return List.of(Constants.concat(
+                    CompositeKey.of("DE", "EUR", "WEB"),
+                    CompositeKey.of("DE", "EUR", "POS"),
+                    CompositeKey.of("CH", "CHF", "WEB")
+            ));
+        }
+
+        @Override
+        protected int[] indexedPrefixLengths() {
+            return new int[]{1};
+        }
+
+    }
+
+    @BeforeAll
+    static void allocationMeasuring() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void constantsMatching() {
+        Constant<String>[] constants = Constants.concat("One", "Two", "Three");
+
+        assertNoAllocations(() -> Constants.anyValue("Three", ONE, TWO, THREE));
+        assertNoAllocations(() -> !Constants.anyValue("Four", ONE, TWO, THREE, ONE));
+        assertNoAllocations(() -> Constants.indexOf("Three", constants) == 2);
+        assertNoAllocations(() -> Constants.matchOrNull("Two", constants) == constants[1]);
+        assertNoAllocations(() -> Constants.anyRelationValue("DELETE", ADMIN));
+    }
+
+    @Test
+    void containersMatching() {
+        var numbers = Constants.getInstance(NumbersContainer.class);
+        var roles = Constants.getInstance(RolesContainer.class);
+        @SuppressWarnings("unchecked")
+        var containers = (ConstantContainer<String>[]) new ConstantContainer<?>[]{roles, numbers};
+
+        assertNoAllocations(() -> Constants.anyValue("Three", numbers));
+        assertNoAllocations(() -> Constants.matchOrNull("Three", containers) == THREE);
+        assertNoAllocations(() -> Constants.anyRelationValue("DELETE", roles));
+        assertNoAllocations(() -> !Constants.anyRelationValue("UPDATE", roles));
+    }
+
+    @Test
+    void enumsMatching() {
+        Status[] statuses = Status.values();
+        Integer blocked = 2;
+
+        assertNoAllocations(() -> Constants.anyValue(blocked, Status.BLOCKED));
+        assertNoAllocations(() -> Constants.matchOrNull(blocked, statuses) == Status.BLOCKED);
+        assertNoAllocations(() -> Constants.getEnumByValueOrNull(blocked, Status.class) == Status.BLOCKED);
+    }
+
+    @Test
+    void customContainersMatching() {
+        // neither indexes nor collects the constants on every call
+        var numbers = List.of(ONE, TWO, THREE);
+        ConstantContainer<String> custom = () -> numbers;
+        RelationConstantContainer<String, String> roles = Role.VIEWER;
+
+        assertNoAllocations(() -> Constants.anyValue("Three", custom));
+        assertNoAllocations(() -> !Constants.anyValue("Four", custom));
+        assertNoAllocations(() -> Constants.anyRelationValue("DELETE", roles));
+        assertNoAllocations(() -> !Constants.anyRelationValue("UPDATE", roles));
+    }
+
+    @Test
+    void compositeKeysLookups() {
+        var routes = Constants.getInstance(RoutesContainer.class).getKeyIndex();
+
+        assertNoAllocations(() -> routes.byFull("DE", "EUR", "POS") != null);
+        assertNoAllocations(() -> routes.byFull("DE", "CHF", "POS") == null);
+        assertNoAllocations(() -> routes.byPrefix("DE").size() == 2);
+    }
+
+    private static void assertNoAllocations(BooleanSupplier check) {
+        // warm up, so the measured calls run compiled
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertTrue(check.getAsBoolean());
+        }
+
+        var before = threads.getCurrentThreadAllocatedBytes();
+        var matched = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (check.getAsBoolean()) {
+                matched++;
+            }
+        }
+        var allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(ITERATIONS, matched);
+        assertTrue(allocated < ALLOWED_BYTES, () -> allocated + " bytes allocated by " + ITERATIONS + " calls");
+    }
+
+}
@@ -0,0 +1,274 @@
+package io.github.mrsaraira.constants;
+
+import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractRelationConstantContainer;
+import io.github.mrsaraira.constants.containers.ContainerOption;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Stress tests of the {@link Constants} caches accessed from many platform and virtual threads at once.
+ * All the threads of a scenario are released by a common gate and race for the same containers, which are not created yet
+ * and are slow to construct. Each scenario has its own containers, so each of them races for fresh containers.
+ */
+public class ConstantsConcurrencyTest {
+
+    private static final int PLATFORM_THREADS = 64;
+    private static final int VIRTUAL_THREADS = 1_000;
+    private static final int KEYS = 100;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Map<Class<?>, AtomicInteger> CONSTRUCTIONS = new ConcurrentHashMap<>();
+
+    @RequiredArgsConstructor
+    private enum Currency implements EnumConstantContainer<String, Currency> {
+        EUR(Constants.of("EUR")),
+        USD(Constants.of("USD")),
+        CHF(Constants.of("CHF"));
+
+        @Getter
+        private final Constant<String> constant;
+    }
+
+    @Test
+    void exactlyOnceInstantiationOnPlatformThreads() {
+        List<Class<? extends ConstantContainer<?>>> scenario = List.of(PlatformContainer1.class, PlatformContainer2.class, PlatformLazyContainer.class,
+                PlatformFilteredLazyContainer.class, PlatformDependentContainer.class);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            var executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            try {
+                assertSameInstances(race(executor, PLATFORM_THREADS, () -> getContainers(scenario)));
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+        assertConstructedOnce(scenario);
+    }
+
+    @Test
+    void exactlyOnceInstantiationOnVirtualThreads() {
+        List<Class<? extends ConstantContainer<?>>> scenario = List.of(VirtualContainer1.class, VirtualContainer2.class, VirtualLazyContainer.class,
+                VirtualFilteredLazyContainer.class, VirtualDependentContainer.class);
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            var executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                assertSameInstances(race(executor, VIRTUAL_THREADS, () -> getContainers(scenario)));
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+        assertConstructedOnce(scenario);
+    }
+
+    @Test
+    void enumLookupsOnVirtualThreads() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            var executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                var results = race(executor, VIRTUAL_THREADS, () -> List.of(
+                        Constants.getEnumByValue("USD", Currency.class).orElseThrow(),
+                        Constants.getEnumStringKeyIndex(Currency.class).get("CHF"),
+                        Currency.EUR.getOrdinals().get(2),
+                        Constants.getAllEnumConstantValues(Currency.class)));
+                for (var result : results) {
+                    assertEquals(List.of(Currency.USD, Currency.CHF, Currency.CHF.getConstant(), Set.of("EUR", "USD", "CHF")), result);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    /**
+     * Get the scenario containers in a random order and check they are fully constructed.
+     */
+    private static List<ConstantContainer<?>> getContainers(List<Class<? extends ConstantContainer<?>>> scenario) {
+        var types = new ArrayList<>(scenario);
+        Collections.shuffle(types, ThreadLocalRandom.current());
+
+        var containers = new ArrayList<ConstantContainer<?>>();
+        for (var type : types) {
+            var container = Constants.getInstance(type);
+            if (container instanceof CountingContainer countingContainer) {
+                assertEquals(KEYS, countingContainer.getAllKeys().size());
+                assertEquals(Constants.of(KEYS - 1), Constants.matchOrNull(KEYS - 1, countingContainer));
+            } else if (container instanceof DependentContainer dependentContainer) {
+                assertEquals(List.of(KEYS, KEYS), dependentContainer.getAllRelations().stream()
+                        .map(relation -> relation.getRelations()[0].getValue())
+                        .toList());
+            }
+            containers.add(container);
+        }
+        return containers;
+    }
+
+    /**
+     * Run the task by all the threads released at once.
+     */
+    private static <V> List<V> race(ExecutorService executor, int threads, Supplier<V> task) throws Exception {
+        var ready = new CountDownLatch(threads);
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<V>>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.get();
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        var results = new ArrayList<V>();
+        for (var future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static void assertSameInstances(List<List<ConstantContainer<?>>> results) {
+        var instances = new HashMap<Class<?>, ConstantContainer<?>>();
+        for (var containers : results) {
+            for (var container : containers) {
+                assertSame(instances.computeIfAbsent(container.getClass(), type -> container), container);
+            }
+        }
+    }
+
+    private static void assertConstructedOnce(List<Class<? extends ConstantContainer<?>>> types) {
+        for (var type : types) {
+            assertEquals(1, CONSTRUCTIONS.get(type).get(), () -> type.getSimpleName() + " constructed more than once");
+        }
+    }
+
+    private static void constructed(Object container) {
+        CONSTRUCTIONS.computeIfAbsent(container.getClass(), type -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ------------------ Scenarios containers ------------------ //
+
+    private abstract static class CountingContainer extends AbstractConstantContainer<Integer> {
+
+        CountingContainer(ContainerOption... options) {
+            super(options);
+            constructed(this);
+        }
+
+        @Override
+        protected List<Constant<Integer>> initialConstants() {
+            sleep();
+            var constants = new ArrayList<Constant<Integer>>();
+            for (int i = 0; i < KEYS; i++) {
+                constants.add(Constants.of(i));
+            }
+            return constants;
+        }
+
+    }
+
+    // Depends on other containers, which are requested by the racing threads at the same time
+    private abstract static class DependentContainer extends AbstractRelationConstantContainer<String, Integer> {
+
+        DependentContainer() {
+            constructed(this);
+        }
+
+        abstract List<Class<? extends CountingContainer>> dependencies();
+
+        @Override
+        protected List<RelationConstant<String, Integer>> initialConstants() {
+            sleep();
+            var constants = new ArrayList<RelationConstant<String, Integer>>();
+            for (var dependency : dependencies()) {
+                constants.add(Constants.of(dependency.getSimpleName(), Constants.getInstance(dependency).getAllValues().size()));
+            }
+            return constants;
+        }
+
+    }
+
+    private static class PlatformContainer1 extends CountingContainer {
+    }
+
+    private static class PlatformContainer2 extends CountingContainer {
+    }
+
+    private static class PlatformLazyContainer extends CountingContainer {
+
+        PlatformLazyContainer() {
+            super(ContainerOption.LAZY);
+        }
+
+    }
+
+    private static class PlatformFilteredLazyContainer extends CountingContainer {
+
+        PlatformFilteredLazyContainer() {
+            super(ContainerOption.LAZY, ContainerOption.BLOOM_FILTER);
+        }
+
+    }
+
+    private static class PlatformDependentContainer extends DependentContainer {
+
+        @Override
+        List<Class<? extends CountingContainer>> dependencies() {
+            return List.of(PlatformContainer1.class, PlatformLazyContainer.class);
+        }
+
+    }
+
+    private static class VirtualContainer1 extends CountingContainer {
+    }
+
+    private static class VirtualContainer2 extends CountingContainer {
+    }
+
+    private static class VirtualLazyContainer extends CountingContainer {
+
+        VirtualLazyContainer() {
+            super(ContainerOption.LAZY);
+        }
+
+    }
+
+    private static class VirtualFilteredLazyContainer extends CountingContainer {
+
+        VirtualFilteredLazyContainer() {
+            super(ContainerOption.LAZY, ContainerOption.BLOOM_FILTER);
+        }
+
+    }
+
+    private static class VirtualDependentContainer extends DependentContainer {
+
+        @Override
+        List<Class<? extends CountingContainer>> dependencies() {
+            return List.of(VirtualContainer1.class, VirtualLazyContainer.class);
+        }
+
+    }
+
+}
@@ -1,18 +1,38 @@
 package io.github.mrsaraira.constants;
 
+import io.github.mrsaraira.constants.containers.AbstractCompositeKeyConstantContainer;
 import io.github.mrsaraira.constants.containers.AbstractConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractNavigableConstantContainer;
+import io.github.mrsaraira.constants.containers.AbstractPatternConstantContainer;
 import io.github.mrsaraira.constants.containers.AbstractRelationConstantContainer;
+import io.github.mrsaraira.constants.containers.ContainerOption;
+import io.github.mrsaraira.constants.containers.LazyInitializationReport;
+import io.github.mrsaraira.constants.containers.OverlayRelationConstantContainer;
+import io.github.mrsaraira.constants.containers.RelationConstantsBuilder;
+import io.github.mrsaraira.constants.vector.IntKeys;
+import io.github.mrsaraira.constants.vector.IntRelations;
+import io.github.mrsaraira.constants.vector.LongKeys;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -228,9 +248,559 @@ public class DemoTest {
         // Thanks for your attention :)
     }
 
+    @Test
+    void containerGroupDemo() {
+        var constantContainer = Constants.getInstance(DemoConstantContainer.class);
+        var relationContainer = Constants.getInstance(DemoRelationContainerWithStaticFinalFields.class);
+
+        // One index over all the group containers, the first container owns the shared values
+        var group = ContainerGroup.of(constantContainer, relationContainer);
+        assertEquals(constantContainer, group.getContainer("One").orElseThrow());
+        assertEquals(relationContainer, group.getContainer("FOUR_FIVE").orElseThrow());
+        assertEquals("FOUR_FIVE", group.match("FOUR_FIVE").orElseThrow().getValue());
+        assertFalse(group.anyValue("Seven"));
+
+        // The index is rebuilt when the group members change
+        assertTrue(group.remove(constantContainer));
+        assertEquals(relationContainer, group.getContainer("One").orElseThrow());
+        assertTrue(group.add(constantContainer));
+        assertFalse(group.add(constantContainer));
+        assertEquals(2, group.getContainers().size());
+    }
+
+    @Test
+    void primitiveKeysDemo() {
+        // Int keys and relation values scanned from primitive arrays, vectorized when jdk.incubator.vector is available
+        var intKeys = IntKeys.of(DemoEnumConstantContainer.ONE);
+        assertEquals(4, intKeys.size());
+        assertTrue(intKeys.indexOf(3) >= 0);
+        assertEquals(3, intKeys.match(3).orElseThrow().getValue());
+        assertFalse(intKeys.anyValue(5));
+
+        var intRelations = IntRelations.of(DemoEnumRelationConstantContainer.ONE);
+        assertEquals(5, intRelations.size());
+        assertEquals(DemoEnumRelationConstantContainer.FOUR_FIVE.getConstant(), intRelations.match(5).orElseThrow());
+        assertFalse(intRelations.anyRelationValue(6));
+
+        var longKeys = LongKeys.of(Constants.concat(1L, 2L, 3L));
+        assertTrue(longKeys.anyValue(3L));
+        assertEquals(-1, longKeys.indexOf(4L));
+    }
+
+    @Test
+    void navigableContainerDemo() {
+        var statusBands = Constants.getInstance(DemoHttpStatusBandsContainer.class);
+
+        // Keys are sorted by their values
+        assertEquals(List.of(100, 200, 300, 400, 500), statusBands.getAllKeys().stream().map(Constant::getValue).toList());
+
+        // Navigation in O(log n)
+        assertEquals(200, statusBands.floor(204).orElseThrow().getValue());
+        assertEquals(300, statusBands.ceiling(204).orElseThrow().getValue());
+        assertTrue(statusBands.floor(99).isEmpty());
+        assertEquals(List.of(Constants.of(200), Constants.of(300)), statusBands.range(200, 400));
+
+        var bracket = statusBands.bracketOf(404).orElseThrow();
+        assertEquals(400, bracket.getLower().getValue());
+        assertEquals(500, bracket.getUpper().getValue());
+        assertTrue(bracket.contains(499));
+        assertNull(statusBands.bracketOf(503).orElseThrow().getUpper());
+
+        // Works with all the Constants operations
+        assertTrue(Constants.anyValue(300, statusBands));
+        assertEquals(Optional.of(500), Constants.getKeyValue(500, DemoHttpStatusBandsContainer.class));
+
+        // Lookups by value use binary search as well
+        assertEquals(Constants.of(400), statusBands.getKeyOrNull(400));
+        assertNull(statusBands.getKeyOrNull(404));
+        assertNull(statusBands.getKeyOrNull(null));
+        assertFalse(Constants.anyValue(404, statusBands));
+    }
+
+    @Test
+    void initializeAllDemo() {
+        // Containers are constructed in parallel, each one once, even if they depend on each other
+        var report = Constants.initializeAll(List.of(
+                DemoDependentContainer.class,
+                DemoConstantContainer.class,
+                DemoEnumRelationConstantContainer.class,
+                DemoLazyContainerWithNonStaticConstantsFields.class));
+        assertTrue(report.isSuccessful());
+        assertEquals(4, report.getContainers().size());
+        assertEquals(DemoDependentContainer.class, report.getContainers().getFirst().getType());
+        assertEquals(4, Constants.getInstance(DemoDependentContainer.class).getAllKeys().size());
+
+        // Cyclic dependencies fail instead of dead-locking
+        var cyclicReport = Constants.initializeAll(List.of(WrongDemoCyclicContainer.class, WrongDemoCyclicContainer2.class));
+        assertFalse(cyclicReport.isSuccessful());
+        assertEquals(2, cyclicReport.getFailures().size());
+
+        assertThrows(IllegalArgumentException.class, () -> Constants.initializeAll(List.of(String.class)));
+    }
+
+    @Test
+    void stringKeyIndexDemo() {
+        // Resolve String keys from characters and UTF-8 bytes without allocating Strings
+        var index = Constants.getStringKeyIndex(DemoConstantContainer.class);
+        assertSame(index, Constants.getStringKeyIndex(DemoConstantContainer.class));
+        assertEquals(3, index.size());
+        assertEquals("Two", index.get(new StringBuilder("Two")).getValue());
+        assertEquals("Three", index.get("code=Three;", 5, 10).getValue());
+        assertNull(index.get("Four"));
+
+        var bytes = "code=One;".getBytes(StandardCharsets.UTF_8);
+        assertEquals("One", index.get(bytes, 5, 3).getValue());
+        var buffer = ByteBuffer.allocateDirect(16).put(bytes).flip().position(5).limit(8);
+        assertEquals("One", index.get(buffer).getValue());
+        assertEquals(5, buffer.position());
+
+        // Non-ASCII keys are decoded from UTF-8, malformed bytes do not match
+        var unicodeIndex = StringKeyIndex.of(Constants.getInstance(DemoUnicodeContainer.class));
+        assertEquals("Köln", unicodeIndex.get(ByteBuffer.wrap("Köln".getBytes(StandardCharsets.UTF_8))).getValue());
+        var emoji = "\uD83D\uDC8E".getBytes(StandardCharsets.UTF_8);
+        assertEquals("\uD83D\uDC8E", unicodeIndex.get(emoji, 0, emoji.length).getValue());
+        assertNull(unicodeIndex.get(new byte[]{(byte) 0xC3}, 0, 1));
+
+        // Enum keys are resolved to the enums
+        var enumIndex = Constants.getEnumStringKeyIndex(DemoEnumRelationConstantContainer.class);
+        assertEquals(DemoEnumRelationConstantContainer.FOUR_FIVE, enumIndex.get("Four-five"));
+    }
+
+    @Test
+    void relationQueriesDemo() {
+        var roles = Constants.getInstance(DemoRolesContainer.class);
+
+        // Which roles have CREATE and UPDATE but not DELETE
+        assertEquals(List.of(Constants.of("Editor")), roles.keysWith(Set.of("CREATE", "UPDATE"), Set.of("DELETE")));
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Editor")), roles.keysWithAll(Set.of("CREATE", "UPDATE")));
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Editor")), roles.keysWithAny(Set.of("DELETE", "CREATE")));
+        assertEquals(List.of(Constants.of("Viewer"), Constants.of("Guest")), roles.keysWithNone(Set.of("UPDATE")));
+        assertEquals(List.of(), roles.keysWithAll(Set.of("READ", "UNKNOWN")));
+
+        // The index is created once
+        assertSame(roles.getRelationPostingIndex(), roles.getRelationPostingIndex());
+    }
+
+    @Test
+    void interningDemo() {
+        assertFalse(Constants.isInterningEnabled());
+        assertNotSame(Constants.of("READ"), Constants.of("READ"));
+
+        Constants.setInterningEnabled(true);
+        try {
+            // Equal values share a single constant instance
+            assertSame(Constants.of("READ"), Constants.of("READ"));
+            assertSame(Constants.of("Admin", "READ").getRelations()[0], Constants.of("Viewer", "READ").getRelations()[0]);
+            assertSame(Constants.of("READ"), Constants.concat("WRITE", "READ")[1]);
+            assertSame(Constants.of(null), Constants.of(null));
+            assertEquals(Constants.of("READ"), Constants.of("READ"));
+
+            // Equal values of different classes do not share a constant
+            var immutable = Constants.of(List.of(1));
+            Constant<ArrayList<Integer>> mutable = Constants.of(new ArrayList<>(List.of(1)));
+            assertNotSame(immutable, mutable);
+            assertEquals(ArrayList.class, mutable.getValue().getClass());
+            assertSame(mutable, Constants.of(new ArrayList<>(List.of(1))));
+        } finally {
+            Constants.setInterningEnabled(false);
+        }
+    }
+
+    @Test
+    void lazyContainerDemo() {
+        var reportBefore = LazyInitializationReport.current();
+
+        // Lazy containers call initialConstants() on the first access, so non-static constants fields work too
+        var lazyContainer = Constants.getInstance(DemoLazyContainerWithNonStaticConstantsFields.class);
+        assertEquals(reportBefore.getDeferredContainers() + 1, LazyInitializationReport.current().getDeferredContainers());
+        assertEquals(reportBefore.getMaterializedContainers(), LazyInitializationReport.current().getMaterializedContainers());
+
+        assertTrue(Constants.anyValue("Two", lazyContainer));
+        assertEquals(3, lazyContainer.getAllKeys().size());
+        assertEquals(reportBefore.getMaterializedContainers() + 1, LazyInitializationReport.current().getMaterializedContainers());
+
+        // Lazy relation container fails on the first access instead of the construction
+        var lazyWrongContainer = Constants.getInstance(WrongDemoLazyRelationContainerWithDuplicatedKeys.class);
+        assertThrows(IllegalArgumentException.class, lazyWrongContainer::getAllRelations);
+
+        // Lazy container accessing itself while materializing fails instead of recursing
+        var selfReferencingContainer = Constants.getInstance(WrongDemoLazySelfReferencingContainer.class);
+        assertThrows(IllegalStateException.class, () -> selfReferencingContainer.getAllKeys().size());
+    }
+
+    @Test
+    void bloomFilterDemo() {
+        var countries = Constants.getInstance(DemoBloomFilteredCountriesContainer.class);
+
+        // Present values are never rejected by the filter
+        assertTrue(Constants.anyValue("DE", countries));
+        assertTrue(countries.mightContainValue("CH"));
+        assertEquals(Optional.of("FR"), Constants.getKeyValue("FR", DemoBloomFilteredCountriesContainer.class));
+        assertTrue(Constants.anyRelationValue("EUR", countries));
+        assertTrue(countries.mightContainRelationValue("CHF"));
+
+        // Most of the missing values are rejected without scanning the container
+        var rejected = IntStream.range(0, 1000)
+                .filter(i -> !countries.mightContainValue("missing-" + i))
+                .count();
+        assertTrue(rejected > 990);
+        assertFalse(Constants.anyValue("XX", countries));
+        assertFalse(Constants.anyRelationValue("XXX", countries));
+
+        // Containers without the option cannot reject anything
+        assertTrue(Constants.getInstance(DemoConstantContainer.class).mightContainValue("missing"));
+
+        // Building the filters does not cache the container created outside of Constants
+        var created = new DemoBloomFilteredCurrenciesContainer();
+        assertNotSame(created, Constants.getInstance(DemoBloomFilteredCurrenciesContainer.class));
+    }
+
+    @Test
+    void containerStreamsDemo() {
+        var container = Constants.getInstance(DemoConstantContainer.class);
+
+        // Containers streams are backed by arrays, so they know their sizes and split evenly
+        var spliterator = container.parallelStream().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                | Spliterator.DISTINCT | Spliterator.ORDERED));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+        assertEquals(1, spliterator.trySplit().getExactSizeIfKnown());
+
+        assertEquals(List.of("One", "Two", "Three"), container.parallelStream().map(Constant::getValue).toList());
+        assertEquals(List.of("Admin", "Editor", "Viewer", "Guest"), Constants.getInstance(DemoRolesContainer.class)
+                .parallelRelationsStream()
+                .map(RelationConstant::getValue)
+                .toList());
+        assertEquals(List.of(100, 200, 300, 400, 500), Constants.getInstance(DemoHttpStatusBandsContainer.class)
+                .parallelStream()
+                .map(Constant::getValue)
+                .toList());
+    }
+
+    @Test
+    void constantMapAndSetDemo() {
+        var roles = Constants.getInstance(DemoRolesContainer.class);
+
+        // Dense ordinals in the container order
+        var ordinals = roles.getOrdinals();
+        assertEquals(4, ordinals.size());
+        assertEquals(1, ordinals.ordinalOf(Constants.of("Editor")));
+        assertEquals(-1, ordinals.ordinalOf(Constants.of("Unknown")));
+        assertEquals(Constants.of("Guest"), ordinals.get(3));
+        assertSame(ordinals, roles.getOrdinals());
+
+        // Per-constant counters without hashing
+        var logins = new ConstantMap<String, Integer>(roles);
+        logins.merge(Constants.of("Viewer"), 1, Integer::sum);
+        logins.merge(Constants.of("Admin"), 1, Integer::sum);
+        logins.merge(Constants.of("Viewer"), 1, Integer::sum);
+        assertEquals(Map.of(Constants.of("Admin"), 1, Constants.of("Viewer"), 2), logins);
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Viewer")), List.copyOf(logins.keySet()));
+        assertThrows(IllegalArgumentException.class, () -> logins.put(Constants.of("Unknown"), 1));
+
+        // Per-constant flags
+        var disabled = ConstantSet.noneOf(roles);
+        disabled.add(Constants.of("Guest"));
+        assertTrue(disabled.contains(Constants.of("Guest")));
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Editor"), Constants.of("Viewer")), List.copyOf(disabled.complement()));
+        assertEquals(4, ConstantSet.allOf(roles).size());
+
+        // Enum containers ordinals are the enum ordinals
+        assertEquals(DemoEnumConstantContainer.TWO.ordinal(),
+                DemoEnumConstantContainer.ONE.getOrdinals().ordinalOf(DemoEnumConstantContainer.TWO.getConstant()));
+    }
+
+    @Test
+    void overlayContainerDemo() {
+        var roles = Constants.getInstance(DemoRolesContainer.class);
+
+        // Tenant overrides Viewer permissions and adds Auditor role, the base container is shared and not copied
+        var tenantRoles = OverlayRelationConstantContainer.of(roles,
+                Constants.of("Viewer", "READ", "EXPORT"),
+                Constants.of("Auditor", "READ"));
+
+        assertEquals(List.of("Admin", "Editor", "Viewer", "Guest", "Auditor"),
+                tenantRoles.stream().map(Constant::getValue).toList());
+        assertEquals(Set.of("READ", "EXPORT"), Set.copyOf(Constants.getRelationValues(tenantRoles.getRelationByKeyValue("Viewer").orElseThrow())));
+        assertEquals(Optional.of(Constants.of("Admin", "CREATE", "READ", "UPDATE", "DELETE")), tenantRoles.getRelationByKeyValue("Admin"));
+        assertTrue(tenantRoles.getAllKeys().contains(Constants.of("Auditor")));
+        assertTrue(Constants.anyRelationValue("EXPORT", tenantRoles));
+        assertEquals(List.of(Constants.of("Viewer")), tenantRoles.keysWithAll(Set.of("EXPORT")));
+
+        // Queries delegate to the base index, the overrides replace the base keys in place
+        var restrictedRoles = OverlayRelationConstantContainer.of(roles,
+                Constants.of("Admin", "READ"),
+                Constants.of("Auditor", "READ", "EXPORT"));
+        assertFalse(Constants.anyRelationValue("DELETE", restrictedRoles));
+        assertTrue(Constants.anyValue("Admin", restrictedRoles));
+        assertEquals(Constants.of("Admin"), restrictedRoles.getKeyOrNull("Admin"));
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Editor"), Constants.of("Viewer"), Constants.of("Auditor")),
+                restrictedRoles.keysWithAll(Set.of("READ")));
+        assertEquals(List.of(Constants.of("Admin"), Constants.of("Viewer"), Constants.of("Guest"), Constants.of("Auditor")),
+                restrictedRoles.keysWithNone(Set.of("CREATE")));
+        var fullIndex = RelationPostingIndex.of(restrictedRoles);
+        for (var query : List.of(Set.of("READ"), Set.of("CREATE", "EXPORT"), Set.of("DELETE"), Set.<String>of())) {
+            assertEquals(fullIndex.keysWithAny(query), restrictedRoles.keysWithAny(query));
+            assertEquals(fullIndex.keysWithNone(query), restrictedRoles.keysWithNone(query));
+            assertEquals(fullIndex.keysWith(query, Set.of("UPDATE")), restrictedRoles.keysWith(query, Set.of("UPDATE")));
+        }
+
+        // The base container is not changed
+        assertFalse(Constants.anyRelationValue("EXPORT", roles));
+        assertEquals(Optional.empty(), roles.getRelationByKeyValue("Auditor"));
+
+        assertThrows(IllegalArgumentException.class, () -> OverlayRelationConstantContainer.of(roles,
+                Constants.of("Auditor", "READ"), Constants.of("Auditor", "EXPORT")));
+    }
+
+    @Test
+    void crossContainerReferencesDemo() {
+        var countries = Constants.getInstance(DemoCountriesContainer.class);
+
+        // Country currencies resolved to the currencies container keys with the countries container construction
+        var currencies = countries.getReferences();
+        assertEquals(List.of(Constants.of("CHF"), Constants.of("EUR")), currencies.getTargets(Constants.of("CH")));
+        assertSame(currencies.getTargets(Constants.of("DE")).get(0), currencies.getTargets(Constants.of("FR")).get(0));
+
+        // Two hops: country -> currency -> central bank, resolved once
+        var banks = currencies.then(Constants.getInstance(DemoCurrenciesContainer.class).getReferences());
+        assertEquals(List.of(Constants.of("SNB"), Constants.of("ECB")), banks.getTargets(Constants.of("CH")));
+        assertEquals(List.of(Constants.of("ECB")), banks.getTargets(banks.getSourceOrdinals().ordinalOf(Constants.of("DE"))));
+
+        // Unknown currency fails the container construction, as duplicated keys do
+        assertThrows(IllegalStateException.class, () -> Constants.getInstance(WrongDemoCountriesContainerWithUnknownCurrency.class));
+
+        // Enum without constants can be referred to by the keys without relation values
+        var features = Constants.getInstance(DemoUnreleasedFeaturesContainer.class).getReferences();
+        assertEquals(List.of(), features.getTargets(Constants.of("DARK_MODE")));
+        assertEquals(0, features.getTargetOrdinals().size());
+    }
+
+    @Test
+    void compositeKeysDemo() {
+        var fees = Constants.getInstance(DemoPaymentFeesContainer.class).getKeyIndex();
+
+        // Components are passed separately, no concatenated String keys
+        assertEquals(Constants.of(CompositeKey.of("DE", "EUR", "WEB")), fees.byFull("DE", "EUR", "WEB"));
+        assertNull(fees.byFull("DE", "CHF", "WEB"));
+        assertNull(fees.byFull("DE", "EUR"));
+
+        assertEquals(3, fees.byPrefix("DE").size());
+        assertEquals(List.of(Constants.of(CompositeKey.of("CH", "CHF", "WEB")), Constants.of(CompositeKey.of("CH", "CHF", "POS"))),
+                fees.byPrefix("CH", "CHF"));
+        assertEquals(List.of(), fees.byPrefix("FR"));
+        assertThrows(IllegalStateException.class, () -> fees.byPrefix("DE", "EUR", "WEB", "EXTRA"));
+
+        assertEquals("EUR", fees.byPrefix("CH").get(2).getValue().get(1));
+    }
+
+    @Test
+    void constantSwitchDemo() {
+        // Instead of if (anyValue(x, A)) ... else if (anyValue(x, B)) ... chains
+        ConstantSwitch<Integer, String> enumSwitch = ConstantSwitch.<Integer, String>of(DemoEnumConstantContainer.ONE)
+                .on(DemoEnumConstantContainer.ONE, value -> "one")
+                .on(DemoEnumConstantContainer.TWO, value -> "two")
+                .on(DemoEnumConstantContainer.THREE, value -> "three")
+                .on(DemoEnumConstantContainer.FOUR, value -> "four")
+                .build();
+        assertEquals("two", enumSwitch.apply(2));
+        assertThrows(IllegalArgumentException.class, () -> enumSwitch.apply(5));
+
+        // Dispatch of relation values to the enum entries having them
+        var relationSwitch = ConstantSwitch.<Integer, String, DemoEnumRelationConstantContainer>byRelationValues(DemoEnumRelationConstantContainer.class)
+                .on(DemoEnumRelationConstantContainer.ONE, value -> "one of " + value)
+                .otherwise(value -> "other " + value)
+                .build();
+        assertEquals("one of 1", relationSwitch.apply(1));
+        assertEquals("other 2", relationSwitch.apply(2));
+        assertFalse(relationSwitch.hasCase(2));
+
+        // Shared relation value is handled by the first entry having it, as Constants.match resolves it
+        var channelsSwitch = ConstantSwitch.<String, String, DemoSalesChannelsEnum>byRelationValues(DemoSalesChannelsEnum.class)
+                .on(DemoSalesChannelsEnum.MOBILE, value -> "mobile " + value)
+                .otherwise(value -> "other " + value)
+                .build();
+        EnumRelationConstantContainer<?, String, ?>[] channels = DemoSalesChannelsEnum.values();
+        assertEquals(Optional.of(DemoSalesChannelsEnum.ONLINE), Constants.match("WEB", channels));
+        assertEquals("other WEB", channelsSwitch.apply("WEB"));
+        assertEquals("mobile APP", channelsSwitch.apply("APP"));
+        assertFalse(channelsSwitch.hasCase("WEB"));
+
+        // Cases of the container keys are checked at build time
+        var rolesSwitch = ConstantSwitch.<String, Integer>of(Constants.getInstance(DemoRolesContainer.class))
+                .on(Constants.of("Admin"), value -> 1)
+                .on(Constants.of("Editor"), value -> 2);
+        assertThrows(IllegalStateException.class, rolesSwitch::build);
+        assertThrows(IllegalArgumentException.class, () -> rolesSwitch.on(Constants.of("Admin"), value -> 3));
+        assertThrows(IllegalArgumentException.class, () -> rolesSwitch.on(Constants.of("Unknown"), value -> 3));
+    }
+
+    @Test
+    void accessProfileDemo() {
+        var methods = Constants.getInstance(DemoProfiledHttpMethodsContainer.class);
+        var profile = methods.getAccessProfile();
+        for (int i = 0; i < 95; i++) {
+            Constants.getKeyValue("GET", DemoProfiledHttpMethodsContainer.class);
+        }
+        Predicate<String> hasBody = method -> method.startsWith("P");
+        for (int i = 0; i < 5; i++) {
+            Constants.getKeyValue(hasBody, DemoProfiledHttpMethodsContainer.class);
+        }
+
+        // Report of the hottest keys
+        var hotKeys = profile.getHotKeys(2);
+        assertEquals(List.of("GET", "POST"), hotKeys.stream().map(hotKey -> hotKey.getConstant().getValue()).toList());
+        assertEquals(95, hotKeys.get(0).getHits());
+        assertEquals(0.95, hotKeys.get(0).getShare(), 1e-9);
+
+        // Freeze the scan order hottest-first, the declared order stays visible to the callers
+        profile.freezeHotFirst();
+        assertEquals(List.of("GET", "POST", "OPTIONS", "HEAD", "PUT", "DELETE"),
+                profile.getScanOrder().stream().map(Constant::getValue).toList());
+        assertEquals(List.of("OPTIONS", "HEAD", "POST", "PUT", "DELETE", "GET"),
+                methods.stream().map(Constant::getValue).toList());
+        assertEquals(Optional.of("GET"), Constants.getKeyValue("GET", DemoProfiledHttpMethodsContainer.class));
+
+        // Containers without the option are not profiled
+        assertNull(Constants.getInstance(DemoConstantContainer.class).getAccessProfile());
+    }
+
+    @Test
+    void fuzzyMatchDemo() {
+        // Free-text input with typos is resolved to the closest keys, the exact match first
+        var candidates = Constants.fuzzyMatch("Swizerland", 2, DemoCountryNamesContainer.class, 3);
+        assertEquals(List.of("Switzerland"), candidates.stream().map(match -> match.getConstant().getValue()).toList());
+        assertEquals(1, candidates.get(0).getDistance());
+
+        assertEquals(List.of("Austria", "Australia"), Constants.fuzzyMatch("Austria", 2, DemoCountryNamesContainer.class, 3).stream()
+                .map(match -> match.getConstant().getValue())
+                .toList());
+        assertEquals(1, Constants.fuzzyMatch("Austria", 2, DemoCountryNamesContainer.class, 1).size());
+        assertTrue(Constants.fuzzyMatch("Atlantis", 2, DemoCountryNamesContainer.class, 3).isEmpty());
+
+        // Short codes are matched too, with relation containers and enums
+        assertEquals("Editor", Constants.fuzzyMatch("Edtor", 1, DemoRolesContainer.class, 1).get(0).getConstant().getValue());
+        assertEquals("Two", Constants.fuzzyMatch("Tow", 2, DemoEnumRelationConstantContainer.class, 1).get(0).getConstant().getValue());
+        assertSame(Constants.getFuzzyKeyIndex(DemoCountryNamesContainer.class), Constants.getFuzzyKeyIndex(DemoCountryNamesContainer.class));
+        assertTrue(Constants.fuzzyMatch("One", 2, DemoEmptyEnumConstantContainer.class, 1).isEmpty());
+        // Unbounded edits match every key, the closest first
+        var allRoles = Constants.fuzzyMatch("Edtor", Integer.MAX_VALUE, DemoRolesContainer.class, Integer.MAX_VALUE);
+        assertEquals(Constants.getInstance(DemoRolesContainer.class).getAllKeys().size(), allRoles.size());
+        assertEquals("Editor", allRoles.get(0).getConstant().getValue());
+    }
+
+    @Test
+    void containerCodecDemo() {
+        var senderCodec = Constants.getContainerCodec(DemoCountryNamesContainer.class);
+        var receiverCodec = ContainerCodec.of(Constants.getInstance(DemoCountryNamesContainer.class));
+        var buffer = ByteBuffer.allocate(64);
+
+        // The fingerprint is sent once per connection, then each constant takes a single byte
+        senderCodec.writeFingerprint(buffer);
+        senderCodec.encode(Constants.of("Switzerland"), buffer);
+        senderCodec.encode(Constants.of("Sweden"), buffer);
+        assertEquals(Long.BYTES + 2, buffer.position());
+
+        buffer.flip();
+        receiverCodec.checkFingerprint(buffer);
+        assertEquals("Switzerland", receiverCodec.decode(buffer).getValue());
+        assertEquals("Sweden", receiverCodec.decode(buffer).getValue());
+
+        // Different containers, or versions of the container, are detected
+        assertThrows(IllegalStateException.class, () -> Constants.getContainerCodec(DemoConstantContainer.class).checkFingerprint(senderCodec.getFingerprint()));
+        assertThrows(IllegalArgumentException.class, () -> senderCodec.encode(Constants.of("Atlantis"), buffer));
+        assertThrows(IllegalArgumentException.class, () -> senderCodec.decode(ByteBuffer.wrap(new byte[]{100})));
+        // Malformed varints overflowing the ordinal are rejected instead of decoding a wrong constant
+        assertThrows(IllegalArgumentException.class, () -> senderCodec.decode(ByteBuffer.wrap(new byte[]{
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10})));
+
+        // Enum without constants has a codec decoding nothing
+        var emptyCodec = Constants.getContainerCodec(DemoEmptyEnumConstantContainer.class);
+        assertThrows(IllegalArgumentException.class, () -> emptyCodec.decode(ByteBuffer.wrap(new byte[]{0})));
+
+        // Enum containers have codecs too
+        var enumCodec = Constants.getContainerCodec(DemoEnumConstantContainer.class);
+        assertEquals(1, enumCodec.encodedSize(DemoEnumConstantContainer.FOUR.getConstant()));
+    }
+
+    @Test
+    void patternContainerDemo() {
+        var routes = Constants.getInstance(DemoRoutesContainer.class);
+
+        // All the matching patterns are found in one pass over the input
+        assertEquals(List.of("/api/*/users", "/api/**"), routes.match("/api/v1/users").stream().map(Constant::getValue).toList());
+        assertEquals(List.of("/api/**"), routes.match("/api/v1/admin/users").stream().map(Constant::getValue).toList());
+        assertEquals(Optional.of("/static/**.[jt]s"), routes.matchFirst("/static/app/main.ts").map(Constant::getValue));
+        assertEquals(Optional.of("/files/report-??.csv"), routes.matchFirst("/files/report-07.csv").map(Constant::getValue));
+        assertFalse(routes.matches("/files/report-7.csv"));
+        assertTrue(routes.match("/unknown").isEmpty());
+
+        // Malformed patterns are rejected with the container construction
+        assertThrows(IllegalStateException.class, () -> Constants.getInstance(WrongDemoRoutesContainerWithUnclosedClass.class));
+    }
+
+    @Test
+    void enumValueIndexDemo() {
+        // Enum lookups by value and by relation value use an index created once per enum class
+        assertEquals(Optional.of(DemoEnumConstantContainer.THREE), Constants.getEnumByValue(3, DemoEnumConstantContainer.class));
+        assertSame(DemoEnumRelationConstantContainer.FOUR_FIVE, Constants.matchOrNull(5,
+                DemoEnumRelationConstantContainer.ONE, DemoEnumRelationConstantContainer.FOUR_FIVE));
+        assertNull(Constants.matchOrNull(5, DemoEnumRelationConstantContainer.ONE, DemoEnumRelationConstantContainer.TWO));
+        assertSame(DemoEnumConstantContainer.TWO, Constants.matchOrNull(2, DemoEnumConstantContainer.ONE, DemoEnumConstantContainer.TWO));
+
+        // Duplicated enum values are detected when the index is created
+        assertThrows(IllegalArgumentException.class, () -> Constants.getEnumByValue("B", WrongDemoEnumWithDuplicatedValues.class));
+        var report = Constants.initializeAll(List.of(WrongDemoEnumWithDuplicatedValues.class));
+        assertFalse(report.isSuccessful());
+        // Matching tolerates duplicated enum values, the first matching enumeration wins
+        assertSame(WrongDemoEnumWithDuplicatedValues.A, Constants.matchOrNull("A", WrongDemoEnumWithDuplicatedValues.A));
+        assertSame(WrongDemoEnumWithDuplicatedValues.ANOTHER_B, Constants.matchOrNull("B",
+                WrongDemoEnumWithDuplicatedValues.A, WrongDemoEnumWithDuplicatedValues.ANOTHER_B, WrongDemoEnumWithDuplicatedValues.B));
+    }
+
+    @Test
+    void relationConstantsBuilderDemo() {
+        // Large generated containers are built from a stream into a presized array, the keys are checked and indexed in parallel
+        var tariffs = Constants.getInstance(DemoGeneratedTariffsContainer.class);
+        assertEquals(DemoGeneratedTariffsContainer.SIZE, tariffs.getAllRelations().size());
+        assertEquals("T-0", tariffs.getAllKeys().iterator().next().getValue());
+        assertTrue(tariffs.getRelationByKeyValue("T-42").orElseThrow().hasRelationValue(42 % 7));
+        assertTrue(Constants.anyRelationValue(6, tariffs));
+
+        assertThrows(IllegalStateException.class, () -> Constants.getInstance(WrongDemoGeneratedTariffsContainerWithDuplicatedKeys.class));
+    }
+
 
     // ------------------ Other demo constant containers ------------------ //
 
+    @RequiredArgsConstructor
+    @Getter
+    private enum DemoSalesChannelsEnum implements EnumRelationConstantContainer<String, String, DemoSalesChannelsEnum> {
+        ONLINE(Constants.of("Online", "WEB", "EMAIL")),
+        MOBILE(Constants.of("Mobile", "APP", "WEB"));
+
+        private final RelationConstant<String, String> constant;
+    }
+
+    private enum DemoEmptyEnumConstantContainer implements EnumConstantContainer<String, DemoEmptyEnumConstantContainer> {
+        ;
+
+        @Override
+        public Constant<String> getConstant() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private enum WrongDemoEnumWithDuplicatedValues implements EnumConstantContainer<String, WrongDemoEnumWithDuplicatedValues> {
+        A(Constants.of("A")),
+        B(Constants.of("B")),
+        ANOTHER_B(Constants.of("B"));
+
+        private final Constant<String> constant;
+    }
+
     private static class DemoConstantContainer extends AbstractConstantContainer<String> {
 
         @Override
@@ -282,6 +852,262 @@ public class DemoTest {
 
     }
 
+    private static class DemoHttpStatusBandsContainer extends AbstractNavigableConstantContainer<Integer> {
+
+        @Override
+        protected List<Constant<Integer>> initialConstants() {
+            return List.of(Constants.concat(500, 400, 300, 200, 100));
+        }
+
+    }
+
+    // Container depending on another container
+    private static class DemoDependentContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            var constants = new ArrayList<>(Constants.getInstance(DemoConstantContainer.class).getAllKeys());
+            constants.add(Constants.of("Four"));
+            return constants;
+        }
+
+    }
+
+    // Containers depending on each other cannot be instantiated
+    private static class WrongDemoCyclicContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.copyOf(Constants.getInstance(WrongDemoCyclicContainer2.class).getAllKeys());
+        }
+
+    }
+
+    private static class WrongDemoCyclicContainer2 extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.copyOf(Constants.getInstance(WrongDemoCyclicContainer.class).getAllKeys());
+        }
+
+    }
+
+    private static class DemoUnicodeContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("Köln", "\uD83D\uDC8E", "Zürich"));
+        }
+
+    }
+
+    private static class DemoRolesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(
+                    Constants.of("Admin", "CREATE", "READ", "UPDATE", "DELETE"),
+                    Constants.of("Editor", "CREATE", "READ", "UPDATE"),
+                    Constants.of("Viewer", "READ"),
+                    Constants.<String, String>of("Guest")
+            );
+        }
+
+    }
+
+    private static class DemoBloomFilteredCountriesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        DemoBloomFilteredCountriesContainer() {
+            super(ContainerOption.BLOOM_FILTER);
+        }
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(
+                    Constants.of("DE", "EUR"),
+                    Constants.of("FR", "EUR"),
+                    Constants.of("CH", "CHF", "EUR")
+            );
+        }
+
+    }
+
+    private static class DemoBloomFilteredCurrenciesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        DemoBloomFilteredCurrenciesContainer() {
+            super(ContainerOption.BLOOM_FILTER);
+        }
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(
+                    Constants.of("EUR", "DE", "FR"),
+                    Constants.of("CHF", "CH")
+            );
+        }
+
+    }
+
+    private static class DemoProfiledHttpMethodsContainer extends AbstractConstantContainer<String> {
+
+        DemoProfiledHttpMethodsContainer() {
+            super(ContainerOption.PROFILE);
+        }
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("OPTIONS", "HEAD", "POST", "PUT", "DELETE", "GET"));
+        }
+
+    }
+
+    private static class DemoCountryNamesContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("Germany", "France", "Switzerland", "Austria", "Australia", "Sweden", "Swaziland"));
+        }
+
+    }
+
+    private static class DemoRoutesContainer extends AbstractPatternConstantContainer {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("/api/*/users", "/api/**", "/static/**.[jt]s", "/files/report-??.csv"));
+        }
+
+    }
+
+    private static class WrongDemoRoutesContainerWithUnclosedClass extends AbstractPatternConstantContainer {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("/files/[a-z"));
+        }
+
+    }
+
+    private static class DemoGeneratedTariffsContainer extends AbstractRelationConstantContainer<String, Integer> {
+
+        static final int SIZE = 50_000;
+
+        @Override
+        protected List<RelationConstant<String, Integer>> initialConstants() {
+            return RelationConstantsBuilder.<String, Integer>withExpectedSize(SIZE)
+                    .addAll(IntStream.range(0, SIZE).mapToObj(i -> Constants.of("T-" + i, i % 7)))
+                    .build();
+        }
+
+    }
+
+    private static class WrongDemoGeneratedTariffsContainerWithDuplicatedKeys extends AbstractRelationConstantContainer<String, Integer> {
+
+        @Override
+        protected List<RelationConstant<String, Integer>> initialConstants() {
+            return RelationConstantsBuilder.<String, Integer>withExpectedSize(DemoGeneratedTariffsContainer.SIZE)
+                    .addAll(IntStream.range(0, DemoGeneratedTariffsContainer.SIZE).mapToObj(i -> Constants.of("T-" + i % 40_000, i)))
+                    .build();
+        }
+
+    }
+
+    private static class DemoCentralBanksContainer extends AbstractConstantContainer<String> {
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.concat("ECB", "SNB"));
+        }
+
+    }
+
+    // Relation values are keys of the central banks container
+    private static class DemoCurrenciesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(
+                    Constants.of("EUR", "ECB"),
+                    Constants.of("CHF", "SNB")
+            );
+        }
+
+        @Override
+        protected Class<DemoCentralBanksContainer> referencedContainer() {
+            return DemoCentralBanksContainer.class;
+        }
+
+    }
+
+    // Relation values are keys of the currencies container
+    private static class DemoCountriesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(
+                    Constants.of("DE", "EUR"),
+                    Constants.of("FR", "EUR"),
+                    Constants.of("CH", "CHF", "EUR")
+            );
+        }
+
+        @Override
+        protected Class<DemoCurrenciesContainer> referencedContainer() {
+            return DemoCurrenciesContainer.class;
+        }
+
+    }
+
+    private static class DemoUnreleasedFeaturesContainer extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(Constants.<String, String>of("DARK_MODE"));
+        }
+
+        @Override
+        protected Class<DemoEmptyEnumConstantContainer> referencedContainer() {
+            return DemoEmptyEnumConstantContainer.class;
+        }
+
+    }
+
+    private static class WrongDemoCountriesContainerWithUnknownCurrency extends AbstractRelationConstantContainer<String, String> {
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(Constants.of("US", "USD"));
+        }
+
+        @Override
+        protected Class<DemoCurrenciesContainer> referencedContainer() {
+            return DemoCurrenciesContainer.class;
+        }
+
+    }
+
+    // Keys of (country, currency, channel) indexed by (country) and (country, currency)
+    private static class DemoPaymentFeesContainer extends AbstractCompositeKeyConstantContainer {
+
+        @Override
+        protected List<Constant<CompositeKey>> initialConstants() {
+            return List.of(Constants.concat(
+                    CompositeKey.of("DE", "EUR", "WEB"),
+                    CompositeKey.of("DE", "EUR", "POS"),
+                    CompositeKey.of("DE", "USD", "WEB"),
+                    CompositeKey.of("CH", "CHF", "WEB"),
+                    CompositeKey.of("CH", "CHF", "POS"),
+                    CompositeKey.of("CH", "EUR", "WEB")
+            ));
+        }
+
+        @Override
+        protected int[] indexedPrefixLengths() {
+            return new int[]{1, 2};
+        }
+
+    }
+
     // This is a wrong example, you should not do it if you want to refer to this container using Constants.getInstance
     private static class WrongDemoContainerWithNonStaticConstantsFields extends AbstractConstantContainer<String> {
 
@@ -296,6 +1122,24 @@ public class DemoTest {
 
     }
 
+    // Lazy container is materialized on the first access, after the container fields are initialized
+    private static class DemoLazyContainerWithNonStaticConstantsFields extends AbstractConstantContainer<String> {
+
+        public final Constant<String> ONE = Constants.of("One");
+        public final Constant<String> TWO = Constants.of("Two");
+        public final Constant<String> THREE = Constants.of("Three");
+
+        DemoLazyContainerWithNonStaticConstantsFields() {
+            super(ContainerOption.LAZY);
+        }
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(ONE, TWO, THREE);
+        }
+
+    }
+
     // However this container will work, because values are initiated and not the constants in the local fields.
     // But this container is not as useful as other containers.
     private static class DemoContainerWithNonStaticValuesFields extends AbstractConstantContainer<String> {
@@ -324,6 +1168,37 @@ public class DemoTest {
 
     }
 
+    // Lazy relation constant container with duplicated keys will fail on the first access
+    private static class WrongDemoLazyRelationContainerWithDuplicatedKeys extends AbstractRelationConstantContainer<String, String> {
+
+        WrongDemoLazyRelationContainerWithDuplicatedKeys() {
+            super(ContainerOption.LAZY);
+        }
+
+        @Override
+        protected List<RelationConstant<String, String>> initialConstants() {
+            return List.of(Constants.concat(
+                    Constants.of("KEY", "VALUE1"),
+                    Constants.of("KEY", "VALUE2")
+            ));
+        }
+
+    }
+
+    // Lazy constant container reading its own keys while they are created will fail on the first access
+    private static class WrongDemoLazySelfReferencingContainer extends AbstractConstantContainer<String> {
+
+        WrongDemoLazySelfReferencingContainer() {
+            super(ContainerOption.LAZY);
+        }
+
+        @Override
+        protected List<Constant<String>> initialConstants() {
+            return List.of(Constants.of("Key" + getAllKeys().size()));
+        }
+
+    }
+
     // However this constant container with duplicated keys will store same keys once and will work fine
     private static class DemoConstantContainerWithDuplicatedKeys extends AbstractConstantContainer<String> {
 
@@ -0,0 +1,31 @@
+package io.github.mrsaraira.constants;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class RelationConstantFootprintTest {
+
+    @Test
+    void relationValuesStoredInline() {
+        // the key constant and the relation values array, without a backing collection or relation constants
+        var fieldTypes = Arrays.stream(RelationConstantImpl.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getType)
+                .toList();
+        assertEquals(2, fieldTypes.size());
+        assertEquals(Set.of(Constant.class, Object[].class), Set.copyOf(fieldTypes));
+        assertFalse(fieldTypes.stream().anyMatch(Collection.class::isAssignableFrom));
+
+        var relation = Constants.of("Admin", "CREATE", "READ", "UPDATE");
+        assertEquals(Set.of("CREATE", "READ", "UPDATE"), Constants.getValues(relation.getRelations()));
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.mrsaraira.constants.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactCollectionsTest {
+
+    @Test
+    void compactSets() {
+        for (var size : new int[]{0, 1, 4, 5, 16, 100}) {
+            var elements = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                elements.add(size - i);
+            }
+            elements.addAll(elements);
+            var set = CompactCollections.copyOfSet(elements);
+            var expected = new LinkedHashSet<>(elements);
+
+            assertEquals(expected, set);
+            assertEquals(expected.hashCode(), set.hashCode());
+            assertIterableEquals(expected, set);
+            assertFalse(set.contains(-1));
+            assertThrows(UnsupportedOperationException.class, () -> set.add(-1));
+            assertThrows(UnsupportedOperationException.class, set::clear);
+        }
+
+        var withNull = CompactCollections.copyOfSet(Arrays.asList("A", null, "B", null, "C", "D", "E"));
+        assertIterableEquals(Arrays.asList("A", null, "B", "C", "D", "E"), withNull);
+        assertTrue(withNull.contains(null));
+    }
+
+    @Test
+    void compactMaps() {
+        var source = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < 10; i++) {
+            source.put("KEY_" + (9 - i), i);
+        }
+        source.put(null, null);
+        var map = CompactCollections.copyOfMap(source);
+
+        assertEquals(source, map);
+        assertIterableEquals(source.keySet(), map.keySet());
+        assertIterableEquals(source.values(), map.values());
+        assertEquals(9, map.get("KEY_0"));
+        assertTrue(map.containsKey(null));
+        assertNull(map.get("KEY_10"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("KEY_10", 10));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(0));
+    }
+
+}